@@ -100,18 +100,19 @@ public class GameWrapper {
 
     private String printBoard(TicTacToeBoard board) {
         StringBuilder sb = new StringBuilder();
+        int size = board.getSize();
 
-        for (int i = 0; i < TicTacToeBoard.SIZE; i++) {
-            for (int j = 0; j < TicTacToeBoard.SIZE; j++) {
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
                 var player = board.getPlayer(i, j);
                 sb.append(player == null ? "." : player);
-                if (j < TicTacToeBoard.SIZE - 1) {
+                if (j < size - 1) {
                     sb.append(" | ");
                 }
             }
             sb.append("\n");
-            if (i < TicTacToeBoard.SIZE - 1) {
-                sb.append("-".repeat(TicTacToeBoard.SIZE * 4 - 3)).append("\n");
+            if (i < size - 1) {
+                sb.append("-".repeat(size * 4 - 3)).append("\n");
             }
         }
 
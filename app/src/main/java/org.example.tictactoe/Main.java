@@ -1,7 +1,29 @@
 package org.example.tictactoe;
 
+import org.example.tictactoe.server.GameRegistry;
+import org.example.tictactoe.server.SessionServer;
+import org.example.tictactoe.solver.TablebaseGenerator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
 public class Main {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws InterruptedException, IOException {
+        if (args.length > 0 && args[0].equals("server")) {
+            int port = args.length > 1 ? Integer.parseInt(args[1]) : SessionServer.DEFAULT_PORT;
+            var server = new SessionServer(port, new GameRegistry());
+            server.start();
+            System.out.printf("Listening on port %d%n", server.getPort());
+            Thread.currentThread().join();
+            return;
+        }
+        if (args.length > 1 && args[0].equals("tablebase")) {
+            int size = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+            int winLength = args.length > 3 ? Integer.parseInt(args[3]) : size;
+            long positions = new TablebaseGenerator(size, winLength).generate(Path.of(args[1]));
+            System.out.printf("Solved %d positions into %s%n", positions, args[1]);
+            return;
+        }
         new GameWrapper().run();
     }
 }
@@ -0,0 +1,38 @@
+package org.example.tictactoe.server;
+
+import org.example.tictactoe.games.TicTacToeGame;
+import org.example.tictactoe.games.impl.MctsAiTicTacToeGame;
+import org.example.tictactoe.games.impl.MinMaxAiTicTacToeGame;
+import org.example.tictactoe.games.impl.RandomAiTicTacToeGame;
+
+/**
+ * Kinds of games a client can open on the {@link SessionServer}.
+ * In the AI modes the client plays X and the server answers every move for O.
+ */
+public enum GameMode {
+    /** Both sides are played by clients. */
+    HUMAN,
+    /** O places its marks at random. */
+    RANDOM,
+    /** O plays minimax. */
+    MINMAX,
+    /** O plays Monte Carlo tree search. */
+    MCTS;
+
+    /**
+     * Creates a new, not yet started game of this mode.
+     *
+     * @param size      side length of the board
+     * @param winLength number of marks in a row required to win
+     * @return the game
+     * @throws IllegalArgumentException if the geometry is invalid
+     */
+    public TicTacToeGame create(int size, int winLength) {
+        return switch (this) {
+            case HUMAN -> new TicTacToeGame("Player X", "Player O", size, winLength);
+            case RANDOM -> new RandomAiTicTacToeGame("Player X", "AI O", size, winLength);
+            case MINMAX -> new MinMaxAiTicTacToeGame("Player X", "AI O", size, winLength);
+            case MCTS -> new MctsAiTicTacToeGame("Player X", "AI O", size, winLength);
+        };
+    }
+}
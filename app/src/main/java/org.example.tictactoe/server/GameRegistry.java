@@ -0,0 +1,83 @@
+package org.example.tictactoe.server;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe directory of the games hosted by a server, keyed by numeric id.
+ */
+public class GameRegistry {
+
+    private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final ServerConfig config;
+
+    /** Creates an empty registry with the {@link ServerConfig#DEFAULT default} limits. */
+    public GameRegistry() {
+        this(ServerConfig.DEFAULT);
+    }
+
+    /**
+     * Creates an empty registry.
+     *
+     * @param config limits applied to the hosted games
+     */
+    public GameRegistry(ServerConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Returns the limits applied to the hosted games.
+     *
+     * @return server configuration
+     */
+    public ServerConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Creates and starts a new game. The size is not checked against the configured limits;
+     * callers serving untrusted clients check it first.
+     *
+     * @param mode      kind of game
+     * @param size      side length of the board
+     * @param winLength number of marks in a row required to win
+     * @return the registered session
+     * @throws IllegalArgumentException if the geometry is invalid
+     */
+    public GameSession create(GameMode mode, int size, int winLength) {
+        var session = new GameSession(nextId.getAndIncrement(), mode.create(size, winLength), config.aiBudget());
+        sessions.put(session.getId(), session);
+        return session;
+    }
+
+    /**
+     * Looks up a game.
+     *
+     * @param id session id
+     * @return the session, or {@code null} if there is none with this id
+     */
+    public GameSession get(long id) {
+        return sessions.get(id);
+    }
+
+    /**
+     * Removes a game.
+     *
+     * @param id session id
+     * @return true if the game existed
+     */
+    public boolean remove(long id) {
+        return sessions.remove(id) != null;
+    }
+
+    /**
+     * Returns the number of hosted games.
+     *
+     * @return game count
+     */
+    public int size() {
+        return sessions.size();
+    }
+}
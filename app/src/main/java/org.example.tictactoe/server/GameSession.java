@@ -0,0 +1,140 @@
+package org.example.tictactoe.server;
+
+import org.example.tictactoe.boards.TicTacToeBoard;
+import org.example.tictactoe.enums.GameState;
+import org.example.tictactoe.enums.MoveStatus;
+import org.example.tictactoe.enums.PlayerType;
+import org.example.tictactoe.games.AiMove;
+import org.example.tictactoe.games.TicTacToeGame;
+import org.example.tictactoe.utils.Point;
+import org.example.tictactoe.utils.SearchBudget;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A game hosted by the server, shared by every connection that knows its id.
+ * <p>
+ * All access to the game goes through a per-session lock, so moves sent concurrently by
+ * different connections are applied one at a time and readers never observe a half-applied move.
+ * A {@link ReentrantLock} is used instead of {@code synchronized} so that a virtual thread
+ * waiting for the session (or running an AI reply) does not pin its carrier thread. AI replies are
+ * bounded by a {@link SearchBudget}, so no request holds the lock for longer than the budget allows.
+ */
+public final class GameSession {
+
+    private final long id;
+    private final TicTacToeGame game;
+    private final SearchBudget aiBudget;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Creates a session and starts its game.
+     *
+     * @param id       registry id of the session
+     * @param game     game to host; must not be started yet
+     * @param aiBudget work the AI may spend on each reply
+     */
+    GameSession(long id, TicTacToeGame game, SearchBudget aiBudget) {
+        this.id = id;
+        this.game = game;
+        this.aiBudget = aiBudget;
+        game.start();
+    }
+
+    /**
+     * Outcome of a move request.
+     *
+     * @param status whether the requested move was played, or why it was rejected
+     * @param state  game state after the move and the AI reply
+     * @param aiMove move the AI answered with, or {@code null} if it did not move
+     */
+    public record MoveResult(MoveStatus status, GameState state, Point aiMove) {
+    }
+
+    /**
+     * Returns the registry id of this session.
+     *
+     * @return session id
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Plays a move for the player to move and, in AI games, the AI's answer.
+     * Invalid moves from clients are rejected through the result rather than by an exception.
+     *
+     * @param row zero-based row index
+     * @param col zero-based column index
+     * @return status of the move, and the state after the move and the AI reply, if any
+     */
+    public MoveResult move(int row, int col) {
+        lock.lock();
+        try {
+            MoveStatus status = game.tryMove(row, col);
+            GameState state = game.getGameState();
+            if (status != MoveStatus.ACCEPTED) {
+                return new MoveResult(status, state, null);
+            }
+            Point aiMove = null;
+            if (state == GameState.IN_PROGRESS && game instanceof AiMove ai) {
+                aiMove = ai.makeMove(aiBudget);
+                state = game.move(aiMove.row(), aiMove.col());
+            }
+            return new MoveResult(status, state, aiMove);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the game state.
+     *
+     * @return current {@link GameState}
+     */
+    public GameState getState() {
+        lock.lock();
+        try {
+            return game.getGameState();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the player to move.
+     *
+     * @return {@link PlayerType#X} or {@link PlayerType#O}
+     */
+    public PlayerType getCurrentPlayer() {
+        lock.lock();
+        try {
+            return game.getCurrentPlayerType();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Renders the board as one row-major string with {@code X}, {@code O} and {@code .} for empty cells.
+     *
+     * @return board snapshot
+     */
+    public String renderBoard() {
+        lock.lock();
+        try {
+            TicTacToeBoard board = game.getBoard();
+            int size = board.getSize();
+            StringBuilder sb = new StringBuilder(size * size);
+            for (int i = 0; i < size; i++) {
+                for (int j = 0; j < size; j++) {
+                    PlayerType player = board.getPlayer(i, j);
+                    sb.append(player == null ? "." : player);
+                }
+            }
+            return sb.toString();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.tictactoe.server;
+
+import org.example.tictactoe.utils.SearchBudget;
+
+import java.time.Duration;
+
+/**
+ * Limits protecting a {@link SessionServer} from requests that would tie up its threads.
+ *
+ * @param aiBudget              work the AI may spend on each reply
+ * @param maxBoardSize          largest board side length of games without a searching AI
+ * @param maxAiBoardSize        largest board side length of {@link GameMode#MINMAX} and {@link GameMode#MCTS} games
+ * @param maxGamesPerConnection largest number of open games a connection may have created
+ */
+public record ServerConfig(SearchBudget aiBudget, int maxBoardSize, int maxAiBoardSize, int maxGamesPerConnection) {
+
+    /**
+     * Half a second or a million positions per AI reply; boards of up to 32x32, or 7x7 against a searching AI;
+     * 16 open games per connection.
+     */
+    public static final ServerConfig DEFAULT = new ServerConfig(
+            new SearchBudget(Duration.ofMillis(500).toNanos(), 1_000_000), 32, 7, 16);
+
+    /**
+     * Validates the limits.
+     *
+     * @throws IllegalArgumentException if the budget is missing or a limit is not positive
+     */
+    public ServerConfig {
+        if (aiBudget == null) {
+            throw new IllegalArgumentException("AI budget is required");
+        }
+        if (maxBoardSize <= 0 || maxAiBoardSize <= 0) {
+            throw new IllegalArgumentException("Board size limits must be positive");
+        }
+        if (maxGamesPerConnection <= 0) {
+            throw new IllegalArgumentException("Games per connection must be positive: " + maxGamesPerConnection);
+        }
+    }
+
+    /**
+     * Returns the largest board side length a client may request for a game mode.
+     *
+     * @param mode kind of game
+     * @return maximum side length
+     */
+    public int maxSize(GameMode mode) {
+        return switch (mode) {
+            case HUMAN, RANDOM -> maxBoardSize;
+            case MINMAX, MCTS -> maxAiBoardSize;
+        };
+    }
+}
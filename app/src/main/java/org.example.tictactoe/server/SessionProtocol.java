@@ -0,0 +1,202 @@
+package org.example.tictactoe.server;
+
+import org.example.tictactoe.enums.MoveStatus;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Line-based text protocol of the {@link SessionServer}.
+ * <p>
+ * Every request is one line of whitespace-separated words starting with a command; every response
+ * is one line starting with {@code OK} or, if the request failed, {@code ERR} followed by a message.
+ * <pre>
+ * NEW [HUMAN|RANDOM|MINMAX|MCTS] [size [winLength]]  -&gt; OK &lt;id&gt;
+ * MOVE &lt;id&gt; &lt;row&gt; &lt;col&gt;                           -&gt; OK &lt;state&gt; [&lt;aiRow&gt; &lt;aiCol&gt;]
+ * STATE &lt;id&gt;                                       -&gt; OK &lt;state&gt; &lt;player to move&gt;
+ * BOARD &lt;id&gt;                                       -&gt; OK &lt;cells row by row, X, O or .&gt;
+ * CLOSE &lt;id&gt;                                       -&gt; OK
+ * QUIT                                             -&gt; BYE (the server closes the connection)
+ * </pre>
+ * Game states are the {@link org.example.tictactoe.enums.GameState} constant names. The protocol
+ * itself is stateless, so a game can be continued from any connection that knows its id. Requests of a
+ * network client go through its {@link Connection}, which owns the games the client created: it may only
+ * create up to {@link ServerConfig#maxGamesPerConnection()} of them, and closing the connection removes them.
+ * Board sizes above the {@link ServerConfig#maxSize(GameMode) limit} of the requested mode are rejected.
+ */
+public class SessionProtocol {
+
+    /** Response to {@code QUIT}; the connection is closed after sending it. */
+    public static final String BYE = "BYE";
+
+    private final GameRegistry registry;
+
+    /**
+     * Creates a protocol handler working on the given games.
+     *
+     * @param registry games visible to the clients
+     */
+    public SessionProtocol(GameRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Opens the request context of a network client.
+     *
+     * @return connection owning the games created through it
+     */
+    public Connection connect() {
+        return new Connection();
+    }
+
+    /**
+     * Executes one request line without a connection; created games are neither limited nor owned.
+     *
+     * @param line request without the line terminator
+     * @return response without the line terminator
+     */
+    public String handle(String line) {
+        return this.handle(line, null);
+    }
+
+    private String handle(String line, Connection connection) {
+        String[] words = line.trim().split("\\s+");
+        try {
+            return switch (words[0].toUpperCase(Locale.ROOT)) {
+                case "NEW" -> this.newGame(words, connection);
+                case "MOVE" -> this.move(words);
+                case "STATE" -> {
+                    GameSession session = this.session(words, 2);
+                    yield "OK " + session.getState().name() + " " + session.getCurrentPlayer();
+                }
+                case "BOARD" -> "OK " + this.session(words, 2).renderBoard();
+                case "CLOSE" -> {
+                    expectWords(words, 2);
+                    long id = parseId(words[1]);
+                    if (!registry.remove(id)) {
+                        throw new IllegalArgumentException("Unknown game: " + words[1]);
+                    }
+                    if (connection != null) {
+                        connection.created.remove(id);
+                    }
+                    yield "OK";
+                }
+                case "QUIT" -> BYE;
+                default -> throw new IllegalArgumentException("Unknown command: " + words[0]);
+            };
+        } catch (RuntimeException e) {
+            return "ERR " + e.getMessage();
+        }
+    }
+
+    private String newGame(String[] words, Connection connection) {
+        if (words.length > 4) {
+            throw new IllegalArgumentException("Usage: NEW [mode] [size [winLength]]");
+        }
+        GameMode mode = words.length > 1 ? parseMode(words[1]) : GameMode.HUMAN;
+        int size = words.length > 2 ? parseInt(words[2]) : 3;
+        int winLength = words.length > 3 ? parseInt(words[3]) : size;
+        int maxSize = registry.getConfig().maxSize(mode);
+        if (size <= 0 || size > maxSize) {
+            throw new IllegalArgumentException("Board size of " + mode + " games must be in range 1.."
+                    + maxSize + ": " + size);
+        }
+        if (winLength <= 0 || winLength > size) {
+            throw new IllegalArgumentException("Win length must be in range 1.." + size + ": " + winLength);
+        }
+        if (connection == null) {
+            return "OK " + registry.create(mode, size, winLength).getId();
+        }
+        int maxGames = registry.getConfig().maxGamesPerConnection();
+        if (connection.created.size() >= maxGames) {
+            throw new IllegalArgumentException("Too many open games: at most " + maxGames + " per connection");
+        }
+        long id = registry.create(mode, size, winLength).getId();
+        connection.created.add(id);
+        return "OK " + id;
+    }
+
+    private String move(String[] words) {
+        GameSession session = this.session(words, 4);
+        GameSession.MoveResult result = session.move(parseInt(words[2]), parseInt(words[3]));
+        if (result.status() != MoveStatus.ACCEPTED) {
+            return "ERR " + result.status();
+        }
+        if (result.aiMove() == null) {
+            return "OK " + result.state().name();
+        }
+        return "OK " + result.state().name() + " " + result.aiMove().row() + " " + result.aiMove().col();
+    }
+
+    private GameSession session(String[] words, int expected) {
+        expectWords(words, expected);
+        GameSession session = registry.get(parseId(words[1]));
+        if (session == null) {
+            throw new IllegalArgumentException("Unknown game: " + words[1]);
+        }
+        return session;
+    }
+
+    private static void expectWords(String[] words, int expected) {
+        if (words.length != expected) {
+            throw new IllegalArgumentException(words[0].toUpperCase(Locale.ROOT) + " expects "
+                    + (expected - 1) + " argument(s)");
+        }
+    }
+
+    private static GameMode parseMode(String word) {
+        try {
+            return GameMode.valueOf(word.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException _) {
+            throw new IllegalArgumentException("Unknown game mode: " + word);
+        }
+    }
+
+    private static long parseId(String word) {
+        try {
+            return Long.parseLong(word);
+        } catch (NumberFormatException _) {
+            throw new IllegalArgumentException("Invalid game id: " + word);
+        }
+    }
+
+    private static int parseInt(String word) {
+        try {
+            return Integer.parseInt(word);
+        } catch (NumberFormatException _) {
+            throw new IllegalArgumentException("Invalid number: " + word);
+        }
+    }
+
+    /**
+     * Request context of one network client. Used by the thread serving the client only.
+     */
+    public final class Connection implements AutoCloseable {
+
+        /** Ids of the open games created through this connection. */
+        private final Set<Long> created = new HashSet<>();
+
+        private Connection() {
+        }
+
+        /**
+         * Executes one request line of this client.
+         *
+         * @param line request without the line terminator
+         * @return response without the line terminator
+         */
+        public String handle(String line) {
+            return SessionProtocol.this.handle(line, this);
+        }
+
+        /** Removes the games created through this connection that are still open. */
+        @Override
+        public void close() {
+            for (long id : created) {
+                registry.remove(id);
+            }
+            created.clear();
+        }
+    }
+}
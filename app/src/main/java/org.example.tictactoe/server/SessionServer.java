@@ -0,0 +1,155 @@
+package org.example.tictactoe.server;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * TCP server hosting many games through the line-based {@link SessionProtocol}.
+ * <p>
+ * Every connection is served by its own virtual thread with plain blocking I/O, so the number of
+ * concurrent clients is bounded by memory rather than by platform threads. Games live in a shared
+ * {@link GameRegistry}; they can be played from any connection, and are removed when the connection
+ * that created them closes.
+ */
+public class SessionServer implements AutoCloseable {
+
+    /** Default TCP port. */
+    public static final int DEFAULT_PORT = 7777;
+
+    /** Pending connections queued by the operating system before they are accepted. */
+    private static final int BACKLOG = 1024;
+
+    /** Pause after a failed accept, so a persistent error such as running out of file descriptors does not spin. */
+    private static final Duration ACCEPT_RETRY_DELAY = Duration.ofMillis(100);
+
+    private final GameRegistry registry;
+    private final SessionProtocol protocol;
+    private final ServerSocket serverSocket;
+    private final ExecutorService connections = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<Socket> clients = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Opens the server socket; connections are accepted after {@link #start()}.
+     *
+     * @param port     TCP port to listen on; 0 picks a free port
+     * @param registry games served to the clients
+     * @throws UncheckedIOException if the socket cannot be opened
+     */
+    public SessionServer(int port, GameRegistry registry) {
+        this.registry = registry;
+        this.protocol = new SessionProtocol(registry);
+        try {
+            this.serverSocket = new ServerSocket(port, BACKLOG);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot listen on port " + port, e);
+        }
+    }
+
+    /**
+     * Returns the port the server listens on.
+     *
+     * @return local port
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Returns the games served by this server.
+     *
+     * @return game registry
+     */
+    public GameRegistry getRegistry() {
+        return registry;
+    }
+
+    /** Starts accepting connections on a background virtual thread. */
+    public void start() {
+        Thread.ofVirtual().name("session-acceptor").start(this::acceptLoop);
+    }
+
+    /**
+     * Stops accepting connections and closes all open ones, which removes the games they created.
+     * Games created without a connection are kept in the registry.
+     */
+    @Override
+    public void close() {
+        try {
+            serverSocket.close();
+        } catch (IOException _) {
+            // nothing left to release
+        }
+        for (Socket client : clients) {
+            closeQuietly(client);
+        }
+        connections.close();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket client = serverSocket.accept();
+                clients.add(client);
+                connections.execute(() -> this.serve(client));
+            } catch (IOException e) {
+                if (serverSocket.isClosed()) {
+                    return;
+                }
+                System.err.println("Accept failed: " + e.getMessage());
+                try {
+                    Thread.sleep(ACCEPT_RETRY_DELAY);
+                } catch (InterruptedException _) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void serve(Socket client) {
+        try (client;
+             var connection = protocol.connect();
+             var reader = new BufferedReader(new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+             var writer = new BufferedWriter(new OutputStreamWriter(client.getOutputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String response = connection.handle(line);
+                writer.write(response);
+                writer.newLine();
+                writer.flush();
+                if (SessionProtocol.BYE.equals(response)) {
+                    break;
+                }
+            }
+        } catch (SocketException _) {
+            // the client disconnected or the server is closing
+        } catch (IOException e) {
+            System.err.println("Connection failed: " + e.getMessage());
+        } finally {
+            clients.remove(client);
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException _) {
+            // already closed
+        }
+    }
+}
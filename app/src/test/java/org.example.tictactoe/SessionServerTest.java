@@ -0,0 +1,174 @@
+package org.example.tictactoe;
+
+import org.example.tictactoe.server.GameRegistry;
+import org.example.tictactoe.server.ServerConfig;
+import org.example.tictactoe.server.SessionProtocol;
+import org.example.tictactoe.server.SessionServer;
+import org.example.tictactoe.utils.SearchBudget;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SessionServerTest {
+
+    @Test
+    void testProtocolPlaysHumanGame() {
+        var protocol = new SessionProtocol(new GameRegistry());
+        assertEquals("OK 1", protocol.handle("NEW"));
+        assertEquals("OK IN_PROGRESS", protocol.handle("MOVE 1 0 0"));
+        assertEquals("OK IN_PROGRESS", protocol.handle("MOVE 1 1 0"));
+        assertEquals("OK IN_PROGRESS", protocol.handle("MOVE 1 0 1"));
+        assertEquals("OK IN_PROGRESS", protocol.handle("MOVE 1 1 1"));
+        assertEquals("OK X_WINS", protocol.handle("move 1 0 2"));
+        assertEquals("OK XXXOO....", protocol.handle("BOARD 1"));
+        assertTrue(protocol.handle("MOVE 1 2 2").startsWith("ERR "));
+    }
+
+    @Test
+    void testProtocolReportsErrors() {
+        var protocol = new SessionProtocol(new GameRegistry());
+        assertEquals("OK 1", protocol.handle("NEW MINMAX 3 3"));
+        assertTrue(protocol.handle("MOVE 1 5 5").startsWith("ERR "));
+        assertTrue(protocol.handle("MOVE 2 0 0").startsWith("ERR Unknown game"));
+        assertTrue(protocol.handle("MOVE 1 x 0").startsWith("ERR Invalid number"));
+        assertTrue(protocol.handle("NEW CHESS").startsWith("ERR Unknown game mode"));
+        assertTrue(protocol.handle("JUMP").startsWith("ERR Unknown command"));
+        assertEquals("OK", protocol.handle("CLOSE 1"));
+        assertTrue(protocol.handle("STATE 1").startsWith("ERR Unknown game"));
+    }
+
+    @Test
+    void testProtocolLimitsBoardsAndAiWork() {
+        var config = new ServerConfig(SearchBudget.ofNodes(10_000), 8, 5, 4);
+        var protocol = new SessionProtocol(new GameRegistry(config));
+        assertTrue(protocol.handle("NEW MINMAX 6").startsWith("ERR Board size"));
+        assertTrue(protocol.handle("NEW MCTS 6 4").startsWith("ERR Board size"));
+        assertTrue(protocol.handle("NEW HUMAN 9").startsWith("ERR Board size"));
+        assertTrue(protocol.handle("NEW HUMAN 0").startsWith("ERR Board size"));
+        assertTrue(protocol.handle("NEW RANDOM 4 5").startsWith("ERR Win length"));
+        assertEquals("OK 1", protocol.handle("NEW HUMAN 8"));
+        assertEquals("OK 2", protocol.handle("NEW MINMAX 5 4"));
+        assertTrue(protocol.handle("MOVE 2 2 2").startsWith("OK IN_PROGRESS "));
+    }
+
+    @Test
+    void testAiAnswersOverLoopback() throws IOException {
+        try (var server = new SessionServer(0, new GameRegistry())) {
+            server.start();
+            try (var client = new Client(server.getPort())) {
+                assertEquals("OK 1", client.send("NEW MINMAX"));
+                assertEquals("OK IN_PROGRESS 1 1", client.send("MOVE 1 0 0"));
+                assertEquals("OK IN_PROGRESS X", client.send("STATE 1"));
+                assertEquals(SessionProtocol.BYE, client.send("QUIT"));
+                assertNull(client.reader.readLine());
+            }
+        }
+    }
+
+    @Test
+    void testManyConcurrentConnections() throws Exception {
+        int clients = 500;
+        var registry = new GameRegistry();
+        try (var server = new SessionServer(0, registry);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            server.start();
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                results.add(executor.submit(() -> {
+                    try (var client = new Client(server.getPort())) {
+                        String id = client.send("NEW").substring(3);
+                        client.send("MOVE " + id + " 0 0");
+                        client.send("MOVE " + id + " 1 0");
+                        client.send("MOVE " + id + " 0 1");
+                        client.send("MOVE " + id + " 1 1");
+                        return client.send("MOVE " + id + " 0 2");
+                    }
+                }));
+            }
+            for (Future<String> result : results) {
+                assertEquals("OK X_WINS", result.get());
+            }
+        }
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void testConnectionOwnsItsGames() throws IOException {
+        var registry = new GameRegistry(new ServerConfig(SearchBudget.ofNodes(10_000), 8, 5, 2));
+        var protocol = new SessionProtocol(registry);
+        try (var connection = protocol.connect()) {
+            assertEquals("OK 1", connection.handle("NEW"));
+            assertEquals("OK 2", connection.handle("NEW"));
+            assertTrue(connection.handle("NEW").startsWith("ERR Too many open games"));
+            assertEquals("OK", connection.handle("CLOSE 1"));
+            assertEquals("OK 3", connection.handle("NEW"));
+            assertEquals("OK 4", protocol.handle("NEW"));
+            assertEquals(3, registry.size());
+        }
+        assertEquals(1, registry.size());
+        assertTrue(protocol.handle("STATE 2").startsWith("ERR Unknown game"));
+
+        try (var server = new SessionServer(0, registry)) {
+            server.start();
+            try (var client = new Client(server.getPort())) {
+                assertEquals("OK 5", client.send("NEW HUMAN 8"));
+                assertEquals(SessionProtocol.BYE, client.send("QUIT"));
+                assertNull(client.reader.readLine());
+            }
+        }
+        assertNull(registry.get(5));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    void testGameSharedBetweenConnections() throws IOException {
+        try (var server = new SessionServer(0, new GameRegistry())) {
+            server.start();
+            try (var first = new Client(server.getPort()); var second = new Client(server.getPort())) {
+                assertEquals("OK 1", first.send("NEW HUMAN 4 3"));
+                assertEquals("OK IN_PROGRESS", first.send("MOVE 1 0 0"));
+                assertEquals("OK IN_PROGRESS", second.send("MOVE 1 3 3"));
+                assertEquals("OK X..............O", first.send("BOARD 1"));
+            }
+        }
+    }
+
+    /** Blocking line-based client. */
+    private static final class Client implements AutoCloseable {
+
+        private final Socket socket;
+        private final BufferedReader reader;
+        private final PrintWriter writer;
+
+        Client(int port) throws IOException {
+            socket = new Socket(InetAddress.getLoopbackAddress(), port);
+            reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            writer = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+        }
+
+        String send(String request) throws IOException {
+            writer.println(request);
+            return reader.readLine();
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.tictactoe.benchmarks;
+
+import org.example.tictactoe.cache.TranspositionTable;
+import org.example.tictactoe.enums.EvictionPolicy;
+import org.example.tictactoe.enums.SearchMode;
+import org.example.tictactoe.games.impl.MinMaxAiTicTacToeGame;
+import org.example.tictactoe.games.impl.RandomAiTicTacToeGame;
+import org.example.tictactoe.utils.Point;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a single AI decision from fixed 3x3 positions.
+ * <p>
+ * The minimax games get a transposition table with a single slot so that every invocation
+ * measures a real search rather than a cache hit from the previous one; the search mode
+ * parameter compares the engine variants on the same positions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AiBenchmark {
+
+    /** Position to move from, see {@link Positions#byName(String)}. */
+    @Param({"EMPTY", "OPENING", "MIDGAME", "ENDGAME"})
+    public String position;
+
+    /** Minimax engine variant. */
+    @Param({"FULL_WIDTH", "ALPHA_BETA", "SOLUTION_TABLE"})
+    public SearchMode searchMode;
+
+    private MinMaxAiTicTacToeGame minMax;
+    private RandomAiTicTacToeGame random;
+
+    @Setup
+    public void setUp() {
+        int[][] moves = Positions.byName(position);
+        var table = new TranspositionTable(1, EvictionPolicy.ALWAYS_REPLACE);
+        minMax = Positions.play(new MinMaxAiTicTacToeGame("X", "O", table, searchMode), moves);
+        random = Positions.play(new RandomAiTicTacToeGame(), moves);
+    }
+
+    @Benchmark
+    public Point minMaxMove() {
+        return minMax.makeMove();
+    }
+
+    @Benchmark
+    public Point randomMove() {
+        return random.makeMove();
+    }
+}
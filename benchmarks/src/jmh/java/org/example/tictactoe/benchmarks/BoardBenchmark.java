@@ -0,0 +1,89 @@
+package org.example.tictactoe.benchmarks;
+
+import org.example.tictactoe.boards.TicTacToeBoard;
+import org.example.tictactoe.enums.PlayerType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro-benchmarks of the primitive {@link TicTacToeBoard} operations on a half-filled board.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BoardBenchmark {
+
+    /** Side length of the benchmarked board; the win length equals the size up to 5. */
+    @Param({"3", "8", "15"})
+    public int size;
+
+    private TicTacToeBoard board;
+    private int emptyRow;
+    private int emptyCol;
+    private int lastRow;
+    private int lastCol;
+
+    @Setup
+    public void setUp() {
+        board = new TicTacToeBoard(size, Math.min(size, 5));
+        PlayerType player = PlayerType.X;
+        int cells = size * size;
+        for (int cell = 0; cell < cells / 2; cell++) {
+            int row = cell / size;
+            int col = (cell % size + row) % size;
+            if (board.getPlayer(row, col) == null) {
+                board.move(row, col, player);
+                lastRow = row;
+                lastCol = col;
+                player = player.getOpponent();
+            }
+        }
+        for (int cell = cells - 1; cell >= 0; cell--) {
+            if (board.getPlayer(cell / size, cell % size) == null) {
+                emptyRow = cell / size;
+                emptyCol = cell % size;
+                break;
+            }
+        }
+    }
+
+    @Benchmark
+    public void moveAndClear() {
+        board.move(emptyRow, emptyCol, PlayerType.X);
+        board.move(emptyRow, emptyCol, null);
+    }
+
+    @Benchmark
+    public boolean checkWin() {
+        return board.checkWin(lastRow, lastCol, board.getPlayer(lastRow, lastCol));
+    }
+
+    @Benchmark
+    public boolean hasWon() {
+        return board.hasWon(board.getPlayer(lastRow, lastCol));
+    }
+
+    @Benchmark
+    public boolean checkDraw() {
+        return board.checkDraw();
+    }
+
+    @Benchmark
+    public TicTacToeBoard copy() {
+        return board.copy();
+    }
+
+    @Benchmark
+    public void getPlayers(Blackhole blackhole) {
+        blackhole.consume(board.getPlayers());
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.tictactoe.benchmarks;
+
+import org.example.tictactoe.games.PackedTicTacToeGame;
+import org.example.tictactoe.games.PlayerNames;
+import org.example.tictactoe.games.TicTacToeGame;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the memory held by one idle game in each representation: every operation builds a game,
+ * plays the {@link Positions#MIDGAME} moves and returns it.
+ * <p>
+ * Run with {@code -prof gc}: {@code gc.alloc.rate.norm} is the number of bytes allocated per game,
+ * which is what a live game keeps on the heap, since neither representation allocates temporaries
+ * while moving.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FootprintBenchmark {
+
+    private final PlayerNames names = new PlayerNames("Alice", "Bob");
+
+    @Benchmark
+    public TicTacToeGame boardGame() {
+        var game = new TicTacToeGame(names.playerX(), names.playerO());
+        game.start();
+        for (int[] move : Positions.MIDGAME) {
+            game.move(move[0], move[1]);
+        }
+        return game;
+    }
+
+    @Benchmark
+    public PackedTicTacToeGame packedGame() {
+        var game = new PackedTicTacToeGame(names, 3, 3);
+        game.start();
+        for (int[] move : Positions.MIDGAME) {
+            game.move(move[0], move[1]);
+        }
+        return game;
+    }
+}
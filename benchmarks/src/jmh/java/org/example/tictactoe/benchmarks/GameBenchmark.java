@@ -0,0 +1,33 @@
+package org.example.tictactoe.benchmarks;
+
+import org.example.tictactoe.enums.GameState;
+import org.example.tictactoe.games.TicTacToeGame;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a complete drawn game played through {@link TicTacToeGame#move(int, int)},
+ * including game creation and state validation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GameBenchmark {
+
+    @Benchmark
+    public GameState fullGame() {
+        var game = new TicTacToeGame();
+        game.start();
+        GameState state = GameState.IN_PROGRESS;
+        for (int[] move : Positions.DRAW_GAME) {
+            state = game.move(move[0], move[1]);
+        }
+        return state;
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.tictactoe.benchmarks;
+
+import org.example.tictactoe.games.TicTacToeGame;
+
+/**
+ * Fixed positions shared by the benchmarks, given as move sequences played from the empty board.
+ */
+final class Positions {
+
+    /** Empty 3x3 board, X to move. */
+    static final int[][] EMPTY = {};
+    /** X took a corner, O to move. */
+    static final int[][] OPENING = {{0, 0}};
+    /** Mid game with an immediate threat, O to move. */
+    static final int[][] MIDGAME = {{0, 0}, {1, 1}, {0, 1}};
+    /** Late game with few empty cells, X to move. */
+    static final int[][] ENDGAME = {{0, 0}, {1, 1}, {2, 2}, {0, 2}, {2, 0}, {1, 0}};
+    /** A full drawn game. */
+    static final int[][] DRAW_GAME = {{0, 0}, {1, 1}, {0, 1}, {0, 2}, {2, 0}, {1, 0}, {1, 2}, {2, 1}, {2, 2}};
+
+    private Positions() {
+    }
+
+    /**
+     * Looks up a position by its benchmark parameter name.
+     *
+     * @param name one of {@code EMPTY}, {@code OPENING}, {@code MIDGAME}, {@code ENDGAME}
+     * @return move sequence of the position
+     */
+    static int[][] byName(String name) {
+        return switch (name) {
+            case "EMPTY" -> EMPTY;
+            case "OPENING" -> OPENING;
+            case "MIDGAME" -> MIDGAME;
+            case "ENDGAME" -> ENDGAME;
+            default -> throw new IllegalArgumentException("Unknown position: " + name);
+        };
+    }
+
+    /**
+     * Starts the game and plays the given moves on it.
+     *
+     * @param game  game to set up
+     * @param moves moves to play
+     * @param <T>   type of the game
+     * @return the same game
+     */
+    static <T extends TicTacToeGame> T play(T game, int[][] moves) {
+        game.start();
+        for (int[] move : moves) {
+            game.move(move[0], move[1]);
+        }
+        return game;
+    }
+}
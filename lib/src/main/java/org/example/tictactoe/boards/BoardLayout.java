@@ -0,0 +1,158 @@
+package org.example.tictactoe.boards;
+
+import org.example.tictactoe.enums.Symmetry;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable, shared description of a board geometry (side length and win length).
+ * <p>
+ * Holds everything that depends only on the geometry so that boards of the same shape
+ * can share it: Zobrist keys, the static move ordering and, for boards that fit into a single
+ * {@code long}, the winning lines passing through every cell.
+ * <p>
+ * Every winning line has an id {@code direction * cells + startCell} made of the index of its
+ * orientation in {@link #DIRECTIONS} and its first cell, so per-line state fits into an array of
+ * {@link #lineSlots} entries; slots of lines that would leave the board are never used.
+ */
+final class BoardLayout {
+
+    /** Directions (row delta, column delta) of the four line orientations. */
+    static final int[][] DIRECTIONS = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+
+    /** Largest supported side length. */
+    static final int MAX_SIZE = 256;
+
+    private static final Map<Long, BoardLayout> LAYOUTS = new ConcurrentHashMap<>();
+
+    /** Side length of the board. */
+    final int size;
+    /** Number of marks in a row required to win. */
+    final int winLength;
+    /** Total number of cells. */
+    final int cells;
+    /** Number of {@code long} words needed to store one bit per cell. */
+    final int words;
+    /**
+     * Zobrist keys per symmetry ordinal, player ordinal and cell: the key a mark contributes
+     * to the hash of the position transformed by that symmetry. Index {@code 0} is the identity.
+     */
+    final long[][][] zobristKeys;
+    /** Number of line ids, including those of lines that do not fit on the board. */
+    final int lineSlots;
+    /** Largest number of winning lines a single cell can lie on. */
+    final int maxLinesPerCell;
+    /** Winning line ids per cell for single-word boards; {@code null} for larger boards. */
+    final int[][] lineIdsByCell;
+    /** Cells ordered by the number of winning lines passing through them, most first. */
+    final int[] cellsByLineCount;
+
+    private BoardLayout(int size, int winLength) {
+        this.size = size;
+        this.winLength = winLength;
+        this.cells = size * size;
+        this.words = (cells + Long.SIZE - 1) / Long.SIZE;
+        this.zobristKeys = buildZobristKeys();
+        this.lineSlots = DIRECTIONS.length * cells;
+        this.maxLinesPerCell = DIRECTIONS.length * winLength;
+        boolean singleWord = cells <= Long.SIZE;
+        this.lineIdsByCell = singleWord ? new int[cells][] : null;
+        int[] lineCounts = new int[cells];
+        int[] buffer = new int[maxLinesPerCell];
+        for (int cell = 0; cell < cells; cell++) {
+            lineCounts[cell] = this.linesThrough(cell, buffer);
+            if (singleWord) {
+                lineIdsByCell[cell] = Arrays.copyOf(buffer, lineCounts[cell]);
+            }
+        }
+        this.cellsByLineCount = IntStream.range(0, cells)
+                .boxed()
+                .sorted(Comparator.comparingInt((Integer cell) -> -lineCounts[cell]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     * Returns the shared layout for the given geometry.
+     *
+     * @param size      side length of the board
+     * @param winLength number of marks in a row required to win
+     * @return cached layout instance
+     * @throws IllegalArgumentException if the size is out of range or the win length is not in range 1..size
+     */
+    static BoardLayout of(int size, int winLength) {
+        if (size <= 0 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Board size must be in range 1.." + MAX_SIZE + ": " + size);
+        }
+        if (winLength <= 0 || winLength > size) {
+            throw new IllegalArgumentException("Win length must be in range 1.." + size + ": " + winLength);
+        }
+        return LAYOUTS.computeIfAbsent(((long) size << 32) | winLength, key -> new BoardLayout(size, winLength));
+    }
+
+    private long[][][] buildZobristKeys() {
+        SplittableRandom random = new SplittableRandom(0x5EED_7AC7_0E00L ^ ((long) size << 16) ^ winLength);
+        long[][] keys = new long[2][cells];
+        for (long[] playerKeys : keys) {
+            for (int i = 0; i < playerKeys.length; i++) {
+                playerKeys[i] = random.nextLong();
+            }
+        }
+        Symmetry[] symmetries = Symmetry.values();
+        long[][][] symmetricKeys = new long[symmetries.length][2][cells];
+        for (Symmetry symmetry : symmetries) {
+            for (int player = 0; player < 2; player++) {
+                for (int cell = 0; cell < cells; cell++) {
+                    symmetricKeys[symmetry.ordinal()][player][cell] = keys[player][symmetry.transformCell(cell, size)];
+                }
+            }
+        }
+        return symmetricKeys;
+    }
+
+    /**
+     * Writes the ids of all winning lines passing through a cell.
+     *
+     * @param cell   cell index {@code row * size + col}
+     * @param buffer destination of at least {@link #maxLinesPerCell} entries
+     * @return number of ids written
+     */
+    int linesThrough(int cell, int[] buffer) {
+        int count = 0;
+        int row = cell / size;
+        int col = cell % size;
+        for (int direction = 0; direction < DIRECTIONS.length; direction++) {
+            int rowStep = DIRECTIONS[direction][0];
+            int colStep = DIRECTIONS[direction][1];
+            for (int offset = 0; offset < winLength; offset++) {
+                int startRow = row - offset * rowStep;
+                int startCol = col - offset * colStep;
+                int endRow = startRow + (winLength - 1) * rowStep;
+                int endCol = startCol + (winLength - 1) * colStep;
+                if (this.isInside(startRow, startCol) && this.isInside(endRow, endCol)) {
+                    buffer[count++] = direction * cells + startRow * size + startCol;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the orientation of a line as an index into {@link #DIRECTIONS}.
+     *
+     * @param lineId line id
+     * @return direction index
+     */
+    int direction(int lineId) {
+        return lineId / cells;
+    }
+
+    private boolean isInside(int row, int col) {
+        return row >= 0 && row < size && col >= 0 && col < size;
+    }
+}
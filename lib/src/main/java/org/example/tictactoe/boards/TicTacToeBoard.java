@@ -1,31 +1,148 @@
 package org.example.tictactoe.boards;
 
+import org.example.tictactoe.enums.MoveStatus;
 import org.example.tictactoe.enums.PlayerType;
+import org.example.tictactoe.enums.Symmetry;
 import org.example.tictactoe.exceptions.CellOccupiedException;
 import org.example.tictactoe.exceptions.CellOutOfBoundsException;
-
-import java.util.Arrays;
+import org.example.tictactoe.utils.CanonicalForm;
 
 /**
- * Represents a classic 3x3 Tic-Tac-Toe board that stores player moves.
+ * Represents a square Tic-Tac-Toe board that stores player moves.
+ * <p>
+ * The board is a square matrix with a configurable side length (the classic game uses
+ * {@link #SIZE} x {@link #SIZE}); a player wins by placing a configurable number of marks in a row
+ * horizontally, vertically or diagonally. Each cell can contain a {@link PlayerType} value or be
+ * {@code null} if empty.
  * <p>
- * The board is a fixed-size square matrix of size {@link #SIZE} x {@link #SIZE}.
- * Each cell can contain a {@link PlayerType} value or be {@code null} if empty.
+ * Marks are kept as two bit sets (one per player) where cell {@code (row, col)}
+ * maps to bit {@code row * size + col}. Every placement and removal also updates each player's
+ * mark count on every winning line through the cell and the number of lines each player has
+ * completed, so {@link #hasWon(PlayerType)}, {@link #checkDiagonalsWin(PlayerType)} and, through an
+ * occupied-cell counter, {@link #checkDraw()} are constant-time lookups on any board size.
+ * The same update keeps, per player and mark count, the number of lines still open to that player
+ * (see {@link #countOpenLines(PlayerType, int)}), the pattern counts a heuristic evaluation needs.
+ * The empty cells are kept in an indexable set, so {@link #getEmptyCell(int)} picks any of them in constant time.
+ * Zobrist hashes of the marks under each of the eight board
+ * {@link Symmetry symmetries} are maintained incrementally, so both the plain and the canonical
+ * (symmetry-independent) cache key are available in constant time. Search code makes and
+ * unmakes moves in place by cell index through {@link #place(int, PlayerType)} and {@link #remove(int)},
+ * which skip validation and allocate nothing.
  */
 public class TicTacToeBoard {
 
-    /** The underlying storage of players' marks for each cell. */
-    private PlayerType[][] players = new PlayerType[SIZE][SIZE];
-
-    /** The side length of the board (3 for a standard Tic-Tac-Toe). */
+    /** The side length of the classic board (3 for a standard Tic-Tac-Toe). */
     public static final int SIZE = 3;
 
+    /** The largest supported side length. */
+    public static final int MAX_SIZE = BoardLayout.MAX_SIZE;
+
+    private static final Symmetry[] SYMMETRIES = Symmetry.values();
+
+    /** Shared geometry of this board. */
+    private final BoardLayout layout;
+
+    /** Cells occupied by {@link PlayerType#X}. */
+    private final long[] xBits;
+
+    /** Cells occupied by {@link PlayerType#O}. */
+    private final long[] oBits;
+
+    /** Number of occupied cells. */
+    private int occupied;
+
+    /** Permutation of all cells whose first {@code cells - occupied} entries are the empty cells. */
+    private final int[] cellOrder;
+
+    /** Position of every cell in {@link #cellOrder}. */
+    private final int[] cellPosition;
+
+    /** Marks on every winning line, indexed by line id: X's count in the low 16 bits, O's in the high 16 bits. */
+    private final int[] lineMarks;
+
+    /** Number of complete lines per player and orientation, indexed {@code player * 4 + direction}. */
+    private final int[] completedLines = new int[2 * BoardLayout.DIRECTIONS.length];
+
+    /**
+     * Number of lines holding marks of only one player, indexed {@code player * (winLength + 1) + marks};
+     * entries for 0 marks are unused.
+     */
+    private final int[] openLines;
+
+    /** Line ids of the current cell on boards without precomputed lines; {@code null} otherwise. */
+    private final int[] lineBuffer;
+
+    /** Zobrist hashes of the current marks transformed by each symmetry, indexed by ordinal. */
+    private final long[] hashes = new long[SYMMETRIES.length];
+
     /** Creates an empty 3x3 board. */
     public TicTacToeBoard() {
+        this(SIZE, SIZE);
+    }
+
+    /**
+     * Creates an empty board of the given geometry.
+     *
+     * @param size      side length of the board
+     * @param winLength number of marks in a row required to win
+     * @throws IllegalArgumentException if the size is out of range or the win length is not in range 1..size
+     */
+    public TicTacToeBoard(int size, int winLength) {
+        this.layout = BoardLayout.of(size, winLength);
+        this.xBits = new long[layout.words];
+        this.oBits = new long[layout.words];
+        this.lineMarks = new int[layout.lineSlots];
+        this.openLines = new int[2 * (layout.winLength + 1)];
+        this.cellOrder = new int[layout.cells];
+        this.cellPosition = new int[layout.cells];
+        for (int cell = 0; cell < layout.cells; cell++) {
+            cellOrder[cell] = cell;
+            cellPosition[cell] = cell;
+        }
+        this.lineBuffer = layout.lineIdsByCell == null ? new int[layout.maxLinesPerCell] : null;
+    }
+
+    private TicTacToeBoard(TicTacToeBoard source) {
+        this.layout = source.layout;
+        this.xBits = source.xBits.clone();
+        this.oBits = source.oBits.clone();
+        this.occupied = source.occupied;
+        this.lineMarks = source.lineMarks.clone();
+        this.openLines = source.openLines.clone();
+        this.cellOrder = source.cellOrder.clone();
+        this.cellPosition = source.cellPosition.clone();
+        this.lineBuffer = layout.lineIdsByCell == null ? new int[layout.maxLinesPerCell] : null;
+        System.arraycopy(source.hashes, 0, this.hashes, 0, hashes.length);
+        System.arraycopy(source.completedLines, 0, this.completedLines, 0, completedLines.length);
+    }
+
+    /**
+     * Returns the side length of this board.
+     *
+     * @return number of rows (and columns)
+     */
+    public int getSize() {
+        return layout.size;
+    }
+
+    /**
+     * Returns the number of marks in a row required to win on this board.
+     *
+     * @return win length
+     */
+    public int getWinLength() {
+        return layout.winLength;
     }
 
-    private TicTacToeBoard(PlayerType[][] players) {
-        this.players = players;
+    /**
+     * Returns the cell with the given rank in a static move ordering where cells lying on
+     * more potential winning lines come first (center, then corners, then edges on a 3x3 board).
+     *
+     * @param rank zero-based position in the ordering, less than {@code size * size}
+     * @return cell index {@code row * size + col}
+     */
+    public int getOrderedCell(int rank) {
+        return layout.cellsByLineCount[rank];
     }
 
     /**
@@ -34,7 +151,14 @@ public class TicTacToeBoard {
      * @return 2D array of {@link PlayerType} values; {@code null} entries indicate empty cells
      */
     public PlayerType[][] getPlayers() {
-        return Arrays.stream(players).map(PlayerType[]::clone).toArray(PlayerType[][]::new);
+        int size = layout.size;
+        PlayerType[][] players = new PlayerType[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                players[i][j] = this.cellAt(i * size + j);
+            }
+        }
+        return players;
     }
 
     /**
@@ -44,7 +168,86 @@ public class TicTacToeBoard {
      * @return a new TicTacToeBoard instance
      */
     public TicTacToeBoard copy() {
-        return new TicTacToeBoard(this.getPlayers());
+        return new TicTacToeBoard(this);
+    }
+
+    /**
+     * Returns the Zobrist hash of the current marks.
+     * Equal positions always have equal hashes, regardless of the order the moves were played in.
+     *
+     * @return 64-bit position hash
+     */
+    public long hash() {
+        return hashes[0];
+    }
+
+    /**
+     * Returns a hash that is equal for all positions related by a board symmetry
+     * (the smallest of the hashes of the eight transformed positions).
+     *
+     * @return 64-bit canonical position hash
+     */
+    public long canonicalHash() {
+        return hashes[this.canonicalSymmetry().ordinal()];
+    }
+
+    /**
+     * Returns the symmetry that maps this position to its canonical form.
+     *
+     * @return canonical symmetry; {@link Symmetry#IDENTITY} if the position is already canonical
+     */
+    public Symmetry canonicalSymmetry() {
+        int best = 0;
+        for (int i = 1; i < hashes.length; i++) {
+            if (hashes[i] < hashes[best]) {
+                best = i;
+            }
+        }
+        return SYMMETRIES[best];
+    }
+
+    /**
+     * Returns the canonical representative of this position and the symmetry that produced it.
+     * All positions related by a board symmetry share the same canonical board.
+     *
+     * @return canonical form of this board
+     */
+    public CanonicalForm canonicalize() {
+        Symmetry symmetry = this.canonicalSymmetry();
+        return new CanonicalForm(this.transform(symmetry), symmetry);
+    }
+
+    /**
+     * Returns a new board with every mark moved to its image under the given symmetry.
+     *
+     * @param symmetry transform to apply
+     * @return transformed board of the same geometry
+     */
+    public TicTacToeBoard transform(Symmetry symmetry) {
+        TicTacToeBoard result = new TicTacToeBoard(layout.size, layout.winLength);
+        for (int cell = 0; cell < layout.cells; cell++) {
+            PlayerType player = this.cellAt(cell);
+            if (player != null) {
+                int target = symmetry.transformCell(cell, layout.size);
+                result.move(target / layout.size, target % layout.size, player);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the cells occupied by a player as a bit mask where cell {@code (row, col)}
+     * maps to bit {@code row * size + col}. Only available for boards of up to 64 cells.
+     *
+     * @param playerType player whose cells are requested
+     * @return bit mask of the player's cells
+     * @throws IllegalStateException if the board has more than 64 cells
+     */
+    public long getMask(PlayerType playerType) {
+        if (layout.lineIdsByCell == null) {
+            throw new IllegalStateException("Board with " + layout.cells + " cells does not fit into a single mask");
+        }
+        return playerType == PlayerType.X ? xBits[0] : oBits[0];
     }
 
     /**
@@ -56,10 +259,8 @@ public class TicTacToeBoard {
      * @throws CellOutOfBoundsException if the coordinates are outside the board bounds
      */
     public PlayerType getPlayer(int row, int col) {
-        if (row < 0 || row >= SIZE || col < 0 || col >= SIZE) {
-            throw new CellOutOfBoundsException(row, col);
-        }
-        return players[row][col];
+        this.checkBounds(row, col);
+        return this.cellAt(row * layout.size + col);
     }
 
     /**
@@ -72,13 +273,169 @@ public class TicTacToeBoard {
      * @throws CellOccupiedException  if the target cell is already occupied by a non-null value
      */
     public void move(int row, int col, PlayerType player) {
-        if (row < 0 || row >= SIZE || col < 0 || col >= SIZE) {
-            throw new CellOutOfBoundsException(row, col);
+        if (player == null) {
+            this.checkBounds(row, col);
+            int cell = row * layout.size + col;
+            if (!this.isEmpty(cell)) {
+                this.remove(cell);
+            }
+            return;
         }
-        if (players[row][col] != null && player != null) {
-            throw new CellOccupiedException(row, col);
+        MoveStatus status = this.tryMove(row, col, player);
+        if (status != MoveStatus.ACCEPTED) {
+            throw status.toException(row, col);
         }
-        players[row][col] = player;
+    }
+
+    /**
+     * Places a player's mark into the specified cell if the move is valid, reporting an invalid
+     * move by its status instead of an exception.
+     *
+     * @param row    zero-based row index
+     * @param col    zero-based column index
+     * @param player the {@link PlayerType} making the move
+     * @return {@link MoveStatus#ACCEPTED} if the mark was placed, {@link MoveStatus#OUT_OF_BOUNDS}
+     *         or {@link MoveStatus#OCCUPIED} if the board is unchanged
+     */
+    public MoveStatus tryMove(int row, int col, PlayerType player) {
+        if (!this.isInside(row, col)) {
+            return MoveStatus.OUT_OF_BOUNDS;
+        }
+        int cell = row * layout.size + col;
+        if (!this.isEmpty(cell)) {
+            return MoveStatus.OCCUPIED;
+        }
+        this.place(cell, player);
+        return MoveStatus.ACCEPTED;
+    }
+
+    /**
+     * Places a player's mark into an empty cell given by its index, without validation.
+     * The allocation-free counterpart of {@link #move(int, int, PlayerType)} for search code,
+     * which reverts it with {@link #remove(int)}.
+     *
+     * @param cell   cell index {@code row * size + col}; must be empty
+     * @param player the {@link PlayerType} making the move
+     */
+    public void place(int cell, PlayerType player) {
+        int word = cell >>> 6;
+        long bit = 1L << cell;
+        if (player == PlayerType.X) {
+            xBits[word] |= bit;
+        } else {
+            oBits[word] |= bit;
+        }
+        this.updateHashes(player, cell);
+        this.updateLines(cell, player, 1);
+        this.moveInCellOrder(cell, layout.cells - occupied - 1);
+        occupied++;
+    }
+
+    /**
+     * Clears an occupied cell given by its index, without validation.
+     *
+     * @param cell cell index {@code row * size + col}; must be occupied
+     */
+    public void remove(int cell) {
+        PlayerType player = this.cellAt(cell);
+        this.updateHashes(player, cell);
+        this.updateLines(cell, player, -1);
+        int word = cell >>> 6;
+        long bit = ~(1L << cell);
+        xBits[word] &= bit;
+        oBits[word] &= bit;
+        this.moveInCellOrder(cell, layout.cells - occupied);
+        occupied--;
+    }
+
+    /**
+     * Checks whether the cell with the given index is empty.
+     *
+     * @param cell cell index {@code row * size + col}
+     * @return true if no player occupies the cell
+     */
+    public boolean isEmpty(int cell) {
+        int word = cell >>> 6;
+        return ((xBits[word] | oBits[word]) & (1L << cell)) == 0;
+    }
+
+    private void updateHashes(PlayerType player, int cell) {
+        long[][][] keys = layout.zobristKeys;
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] ^= keys[i][player.ordinal()][cell];
+        }
+    }
+
+    /** Swaps the cell with the entry at the given position of {@link #cellOrder}. */
+    private void moveInCellOrder(int cell, int position) {
+        int other = cellOrder[position];
+        int from = cellPosition[cell];
+        cellOrder[from] = other;
+        cellPosition[other] = from;
+        cellOrder[position] = cell;
+        cellPosition[cell] = position;
+    }
+
+    /** Adds {@code delta} to the player's mark count on every line through the cell. */
+    private void updateLines(int cell, PlayerType player, int delta) {
+        int[] lineIds = this.linesThrough(cell);
+        int count = lineIds == lineBuffer ? layout.linesThrough(cell, lineBuffer) : lineIds.length;
+        int shift = player.ordinal() << 4;
+        int completedBase = player.ordinal() * BoardLayout.DIRECTIONS.length;
+        for (int i = 0; i < count; i++) {
+            int lineId = lineIds[i];
+            int marks = lineMarks[lineId];
+            this.countOpenLine(marks, -1);
+            this.countOpenLine(marks + (delta << shift), 1);
+            int before = marks >>> shift & 0xFFFF;
+            lineMarks[lineId] += delta << shift;
+            if (before + delta == layout.winLength) {
+                completedLines[completedBase + layout.direction(lineId)]++;
+            } else if (before == layout.winLength) {
+                completedLines[completedBase + layout.direction(lineId)]--;
+            }
+        }
+    }
+
+    /** Adds {@code delta} to the open line count of the player owning a line with the given marks, if any. */
+    private void countOpenLine(int marks, int delta) {
+        int xMarks = marks & 0xFFFF;
+        int oMarks = marks >>> 16;
+        if (oMarks == 0 && xMarks != 0) {
+            openLines[xMarks] += delta;
+        } else if (xMarks == 0 && oMarks != 0) {
+            openLines[layout.winLength + 1 + oMarks] += delta;
+        }
+    }
+
+    /** Returns the precomputed line ids of the cell, or the scratch buffer to fill on large boards. */
+    private int[] linesThrough(int cell) {
+        return layout.lineIdsByCell != null ? layout.lineIdsByCell[cell] : lineBuffer;
+    }
+
+    /**
+     * Returns the number of cells that are still empty.
+     *
+     * @return count of empty cells
+     */
+    public int countEmptyCells() {
+        return layout.cells - occupied;
+    }
+
+    /**
+     * Returns an empty cell by its index in the set of empty cells, in constant time.
+     * The order of the set is unspecified and changes as cells are filled and cleared,
+     * so a uniformly random index gives a uniformly random empty cell.
+     *
+     * @param index position in the set, in range 0..{@link #countEmptyCells()} - 1
+     * @return cell index {@code row * size + col} of an empty cell
+     * @throws IllegalArgumentException if the index is out of range
+     */
+    public int getEmptyCell(int index) {
+        if (index < 0 || index >= layout.cells - occupied) {
+            throw new IllegalArgumentException("Empty cell index must be in range 0.." + (layout.cells - occupied - 1) + ": " + index);
+        }
+        return cellOrder[index];
     }
 
     /**
@@ -87,19 +444,12 @@ public class TicTacToeBoard {
      * @return true if there are no empty cells; false otherwise
      */
     public boolean checkDraw() {
-        for (int i = 0; i < TicTacToeBoard.SIZE; i++) {
-            for (int j = 0; j < TicTacToeBoard.SIZE; j++) {
-                if (this.getPlayer(i, j) == null) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return occupied == layout.cells;
     }
 
     /**
      * Checks whether the given player has a winning line given the last move coordinates.
-     * This verifies the row, column, and both diagonals as needed.
+     * Only the lines passing through the last move are examined.
      *
      * @param row last move row
      * @param col last move column
@@ -107,38 +457,85 @@ public class TicTacToeBoard {
      * @return true if the player has won; false otherwise
      */
     public boolean checkWin(int row, int col, PlayerType playerType) {
-        if (this.checkEntry(row, true, playerType) || this.checkEntry(col, false, playerType)) {
-            return true;
+        this.checkBounds(row, col);
+        return this.checkWin(row * layout.size + col, playerType);
+    }
+
+    /**
+     * Checks whether the given player has a winning line through the cell with the given index.
+     *
+     * @param cell       cell index {@code row * size + col} of the last move
+     * @param playerType the player to check for a win
+     * @return true if the player has won; false otherwise
+     */
+    public boolean checkWin(int cell, PlayerType playerType) {
+        int[] lineIds = this.linesThrough(cell);
+        int count = lineIds == lineBuffer ? layout.linesThrough(cell, lineBuffer) : lineIds.length;
+        int shift = playerType.ordinal() << 4;
+        for (int i = 0; i < count; i++) {
+            if ((lineMarks[lineIds[i]] >>> shift & 0xFFFF) == layout.winLength) {
+                return true;
+            }
         }
-        return this.checkDiagonalsWin(playerType);
+        return false;
+    }
+
+    /**
+     * Checks whether the given player has a winning line anywhere on the board, in constant time.
+     * In a game that ends with its first line, this equals a check through the last move.
+     *
+     * @param playerType the player to check for a win
+     * @return true if the player has completed at least one line
+     */
+    public boolean hasWon(PlayerType playerType) {
+        int base = playerType.ordinal() * BoardLayout.DIRECTIONS.length;
+        return (completedLines[base] | completedLines[base + 1] | completedLines[base + 2] | completedLines[base + 3]) != 0;
+    }
+
+    /**
+     * Returns the number of lines that hold exactly the given number of the player's marks
+     * and none of the opponent's, in constant time. Lines with {@code winLength - 1} marks are
+     * immediate threats; lines with {@code winLength} marks are complete.
+     *
+     * @param playerType the player whose lines to count
+     * @param marks      number of the player's marks on the line, in range 1..winLength
+     * @return number of such lines
+     * @throws IllegalArgumentException if the mark count is out of range
+     */
+    public int countOpenLines(PlayerType playerType, int marks) {
+        if (marks < 1 || marks > layout.winLength) {
+            throw new IllegalArgumentException("Mark count must be in range 1.." + layout.winLength + ": " + marks);
+        }
+        return openLines[playerType.ordinal() * (layout.winLength + 1) + marks];
     }
 
     /**
      * Checks if the player has any diagonal winning line.
      *
      * @param playerType player to check
-     * @return true if any of the diagonals is fully occupied by the player
+     * @return true if any diagonal contains a winning run of the player's marks
      */
     public boolean checkDiagonalsWin(PlayerType playerType) {
-        boolean leftToRight = true;
-        boolean rightToLeft = true;
-        for (int i = 0; i < TicTacToeBoard.SIZE; i++) {
-            if (this.getPlayer(i, i) != playerType) {
-                leftToRight = false;
-            }
-            if (this.getPlayer(i, TicTacToeBoard.SIZE - 1 - i) != playerType) {
-                rightToLeft = false;
-            }
+        int base = playerType.ordinal() * BoardLayout.DIRECTIONS.length;
+        return (completedLines[base + 2] | completedLines[base + 3]) != 0;
+    }
+
+    private PlayerType cellAt(int cell) {
+        int word = cell >>> 6;
+        long bit = 1L << cell;
+        if ((xBits[word] & bit) != 0) {
+            return PlayerType.X;
         }
-        return leftToRight || rightToLeft;
+        return (oBits[word] & bit) != 0 ? PlayerType.O : null;
     }
 
-    private boolean checkEntry(int entry, boolean isRow, PlayerType playerType) {
-        for (int i = 0; i < TicTacToeBoard.SIZE; i++) {
-            if ((isRow ? playerType != this.getPlayer(entry, i) : playerType != this.getPlayer(i, entry))) {
-                return false;
-            }
+    private boolean isInside(int row, int col) {
+        return row >= 0 && row < layout.size && col >= 0 && col < layout.size;
+    }
+
+    private void checkBounds(int row, int col) {
+        if (!this.isInside(row, col)) {
+            throw new CellOutOfBoundsException(row, col);
         }
-        return true;
     }
 }
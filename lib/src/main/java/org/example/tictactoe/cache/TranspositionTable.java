@@ -0,0 +1,172 @@
+package org.example.tictactoe.cache;
+
+import org.example.tictactoe.enums.EvictionPolicy;
+import org.example.tictactoe.enums.ScoreBound;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded, thread-safe cache of search scores keyed by a 64-bit position hash.
+ * <p>
+ * Entries are packed into a single {@code long} (key check bits, bound, depth and score)
+ * and stored in a power-of-two sized array indexed by the low bits of the key,
+ * so lookups and stores never allocate or lock. A table can therefore be shared
+ * between moves, game instances and threads; colliding entries are resolved
+ * with the configured {@link EvictionPolicy}.
+ */
+public class TranspositionTable {
+
+    /** Number of slots used by the {@link #shared() shared} table. */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    /** Value returned by {@link #probe(long)} when the key is not cached. */
+    public static final int MISS = Integer.MIN_VALUE;
+
+    private static final int SCORE_BITS = 16;
+    private static final int DEPTH_BITS = 8;
+    private static final int BOUND_BITS = 2;
+    private static final int BOUND_SHIFT = SCORE_BITS + DEPTH_BITS;
+    private static final int DATA_BITS = BOUND_SHIFT + BOUND_BITS;
+    private static final long DATA_MASK = (1L << DATA_BITS) - 1;
+    private static final int MAX_DEPTH = (1 << DEPTH_BITS) - 1;
+    private static final ScoreBound[] BOUNDS = ScoreBound.values();
+
+    private static final TranspositionTable SHARED = new TranspositionTable(DEFAULT_CAPACITY, EvictionPolicy.DEPTH_PREFERRED);
+
+    private final AtomicLongArray entries;
+    private final int indexMask;
+    private final EvictionPolicy policy;
+
+    /**
+     * Creates a table with at least the given number of slots.
+     *
+     * @param capacity minimum number of slots; rounded up to the next power of two
+     * @param policy   rule used when a store hits an occupied slot
+     * @throws IllegalArgumentException if the capacity is not positive or exceeds 2<sup>30</sup>
+     */
+    public TranspositionTable(int capacity, EvictionPolicy policy) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be in range 1..2^30: " + capacity);
+        }
+        int slots = Integer.highestOneBit(capacity);
+        if (slots < capacity) {
+            slots <<= 1;
+        }
+        this.entries = new AtomicLongArray(slots);
+        this.indexMask = slots - 1;
+        this.policy = policy;
+    }
+
+    /**
+     * Returns the process-wide table used by AI games that are not given their own.
+     *
+     * @return shared table instance
+     */
+    public static TranspositionTable shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the number of slots in this table.
+     *
+     * @return table capacity
+     */
+    public int capacity() {
+        return entries.length();
+    }
+
+    /**
+     * Looks up the exact score stored for a position.
+     *
+     * @param key position hash
+     * @return cached score, or {@link #MISS} if the position is not cached or only a bound is known
+     */
+    public int probe(long key) {
+        long entry = this.entryFor(key);
+        return entry != 0 && boundOf(entry) == ScoreBound.EXACT ? (short) entry : MISS;
+    }
+
+    /**
+     * Looks up a score usable inside the alpha-beta window {@code (alpha, beta)} by a search
+     * of at least the given depth. Entries stored by shallower searches are ignored;
+     * exact scores are always returned, lower bounds only if they cause a beta cutoff
+     * and upper bounds only if they fail low.
+     *
+     * @param key   position hash
+     * @param depth remaining depth of the search asking for the score
+     * @param alpha best score the maximizing side is already guaranteed
+     * @param beta  best score the minimizing side is already guaranteed
+     * @return cached score, or {@link #MISS} if nothing usable is cached
+     */
+    public int probe(long key, int depth, int alpha, int beta) {
+        long entry = this.entryFor(key);
+        if (entry == 0 || depthOf(entry) < Math.min(depth, MAX_DEPTH)) {
+            return MISS;
+        }
+        int score = (short) entry;
+        return switch (boundOf(entry)) {
+            case EXACT -> score;
+            case LOWER -> score >= beta ? score : MISS;
+            case UPPER -> score <= alpha ? score : MISS;
+        };
+    }
+
+    /**
+     * Stores the exact score of a position, subject to the eviction policy.
+     *
+     * @param key   position hash
+     * @param depth size of the searched subtree (e.g. number of remaining moves); used for eviction
+     * @param score score to cache; must fit into a {@code short}
+     */
+    public void store(long key, int depth, int score) {
+        this.store(key, depth, score, ScoreBound.EXACT);
+    }
+
+    /**
+     * Stores a score of a position, subject to the eviction policy.
+     *
+     * @param key   position hash
+     * @param depth remaining depth of the search that produced the score; used for eviction and lookups
+     * @param score score to cache; must fit into a {@code short}
+     * @param bound how the score relates to the true value of the position
+     */
+    public void store(long key, int depth, int score, ScoreBound bound) {
+        int index = this.index(key);
+        if (policy == EvictionPolicy.DEPTH_PREFERRED) {
+            long existing = entries.getOpaque(index);
+            if (existing != 0
+                    && (existing & ~DATA_MASK) != (key & ~DATA_MASK)
+                    && depthOf(existing) > depth) {
+                return;
+            }
+        }
+        long data = ((long) (bound.ordinal() + 1) << BOUND_SHIFT)
+                | ((long) Math.min(depth, MAX_DEPTH) << SCORE_BITS)
+                | (score & 0xFFFFL);
+        entries.setOpaque(index, (key & ~DATA_MASK) | data);
+    }
+
+    /** Removes all entries from the table. */
+    public void clear() {
+        for (int i = 0; i < entries.length(); i++) {
+            entries.setOpaque(i, 0L);
+        }
+    }
+
+    private long entryFor(long key) {
+        long entry = entries.getOpaque(this.index(key));
+        return (entry & ~DATA_MASK) == (key & ~DATA_MASK) ? entry : 0L;
+    }
+
+    private int index(long key) {
+        return (int) (key ^ (key >>> 32)) & indexMask;
+    }
+
+    private static ScoreBound boundOf(long entry) {
+        return BOUNDS[(int) (entry >>> BOUND_SHIFT & ((1 << BOUND_BITS) - 1)) - 1];
+    }
+
+    private static int depthOf(long entry) {
+        return (int) (entry >>> SCORE_BITS) & MAX_DEPTH;
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.tictactoe.enums;
+
+/**
+ * Strategies a bounded cache uses to decide whether a new entry may overwrite
+ * an existing entry stored in the same slot.
+ */
+public enum EvictionPolicy {
+    /** The newest entry always replaces the previous one. */
+    ALWAYS_REPLACE,
+    /** An entry is only replaced by one describing an equal or deeper subtree. */
+    DEPTH_PREFERRED
+}
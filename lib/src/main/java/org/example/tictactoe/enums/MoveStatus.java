@@ -0,0 +1,55 @@
+package org.example.tictactoe.enums;
+
+import org.example.tictactoe.exceptions.CellOccupiedException;
+import org.example.tictactoe.exceptions.CellOutOfBoundsException;
+import org.example.tictactoe.exceptions.FalseStateException;
+
+/**
+ * Outcome of a non-throwing move attempt. Rejections are reported as constants,
+ * so validating a move never allocates, whatever its outcome. The throwing move methods
+ * report the same rejections with exceptions that record no stack trace.
+ */
+public enum MoveStatus {
+    /** The move was played. */
+    ACCEPTED("Accepted"),
+    /** The game has not been started. */
+    NOT_STARTED("Game Not Started"),
+    /** The game is already over. */
+    GAME_OVER("Game Over"),
+    /** The coordinates are outside the board. */
+    OUT_OF_BOUNDS("Cell Out Of Bounds"),
+    /** The target cell is already occupied. */
+    OCCUPIED("Cell Occupied"),
+    /** The game has changed since the state the move was based on was read. */
+    STALE("Game Changed");
+
+    private final String label;
+
+    MoveStatus(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Creates the exception the throwing move methods report this rejection with.
+     *
+     * @param row zero-based row index of the rejected move
+     * @param col zero-based column index of the rejected move
+     * @return {@link FalseStateException}, {@link CellOutOfBoundsException} or {@link CellOccupiedException}
+     * @throws IllegalStateException if the move was {@link #ACCEPTED}
+     */
+    public RuntimeException toException(int row, int col) {
+        return switch (this) {
+            case ACCEPTED -> throw new IllegalStateException("Move was accepted");
+            case NOT_STARTED -> new FalseStateException("Game is not started");
+            case GAME_OVER -> new FalseStateException("Game is already over");
+            case OUT_OF_BOUNDS -> new CellOutOfBoundsException(row, col);
+            case OCCUPIED -> new CellOccupiedException(row, col);
+            case STALE -> new FalseStateException("Game has changed since the move was prepared");
+        };
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
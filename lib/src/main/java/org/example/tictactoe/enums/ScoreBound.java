@@ -0,0 +1,14 @@
+package org.example.tictactoe.enums;
+
+/**
+ * Describes how a cached search score relates to the true value of a position
+ * when the search that produced it was cut off by an alpha-beta window.
+ */
+public enum ScoreBound {
+    /** The score is the exact value of the position. */
+    EXACT,
+    /** The true value is greater than or equal to the score (the search failed high). */
+    LOWER,
+    /** The true value is less than or equal to the score (the search failed low). */
+    UPPER
+}
@@ -0,0 +1,16 @@
+package org.example.tictactoe.enums;
+
+/**
+ * Tree search algorithms available to the minimax AI.
+ */
+public enum SearchMode {
+    /** Plain minimax that visits every reachable position. */
+    FULL_WIDTH,
+    /** Minimax with alpha-beta pruning and move ordering. */
+    ALPHA_BETA,
+    /**
+     * Constant-time lookup in the precomputed perfect-play table of the classic 3x3 game;
+     * other board geometries fall back to {@link #ALPHA_BETA}.
+     */
+    SOLUTION_TABLE
+}
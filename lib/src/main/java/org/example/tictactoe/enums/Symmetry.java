@@ -0,0 +1,60 @@
+package org.example.tictactoe.enums;
+
+/**
+ * The eight symmetries of a square board (rotations and reflections).
+ * Each symmetry maps a cell {@code (row, col)} of an {@code n x n} board to another cell.
+ */
+public enum Symmetry {
+    /** Leaves every cell in place. */
+    IDENTITY,
+    /** Rotates the board 90 degrees clockwise. */
+    ROTATE_90,
+    /** Rotates the board 180 degrees. */
+    ROTATE_180,
+    /** Rotates the board 270 degrees clockwise. */
+    ROTATE_270,
+    /** Mirrors the board left to right. */
+    FLIP_HORIZONTAL,
+    /** Mirrors the board top to bottom. */
+    FLIP_VERTICAL,
+    /** Reflects the board across the top-left to bottom-right diagonal. */
+    FLIP_MAIN_DIAGONAL,
+    /** Reflects the board across the top-right to bottom-left diagonal. */
+    FLIP_ANTI_DIAGONAL;
+
+    /**
+     * Maps a cell to its image under this symmetry.
+     *
+     * @param cell cell index {@code row * size + col}
+     * @param size side length of the board
+     * @return index of the transformed cell
+     */
+    public int transformCell(int cell, int size) {
+        int row = cell / size;
+        int col = cell % size;
+        int last = size - 1;
+        return switch (this) {
+            case IDENTITY -> cell;
+            case ROTATE_90 -> col * size + last - row;
+            case ROTATE_180 -> (last - row) * size + last - col;
+            case ROTATE_270 -> (last - col) * size + row;
+            case FLIP_HORIZONTAL -> row * size + last - col;
+            case FLIP_VERTICAL -> (last - row) * size + col;
+            case FLIP_MAIN_DIAGONAL -> col * size + row;
+            case FLIP_ANTI_DIAGONAL -> (last - col) * size + last - row;
+        };
+    }
+
+    /**
+     * Returns the symmetry that undoes this one.
+     *
+     * @return inverse symmetry
+     */
+    public Symmetry inverse() {
+        return switch (this) {
+            case ROTATE_90 -> ROTATE_270;
+            case ROTATE_270 -> ROTATE_90;
+            default -> this;
+        };
+    }
+}
@@ -11,6 +11,6 @@ public class CellOccupiedException extends RuntimeException {
      * @param col zero-based column index of the occupied cell
      */
     public CellOccupiedException(int  row, int col) {
-        super(String.format("Cell %d %d Occupied", row, col));
+        super(String.format("Cell %d %d Occupied", row, col), null, false, false);
     }
 }
@@ -11,6 +11,6 @@ public class CellOutOfBoundsException extends RuntimeException {
      * @param col zero-based column index
      */
     public CellOutOfBoundsException(int row, int col) {
-        super(String.format("Cell %d %d Out Of Bounds", row, col));
+        super(String.format("Cell %d %d Out Of Bounds", row, col), null, false, false);
     }
 }
@@ -11,6 +11,6 @@ public class FalseStateException extends RuntimeException {
      * @param message detail message explaining the invalid state
      */
     public FalseStateException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
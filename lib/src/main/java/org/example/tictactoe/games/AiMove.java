@@ -1,6 +1,7 @@
 package org.example.tictactoe.games;
 
 import org.example.tictactoe.utils.Point;
+import org.example.tictactoe.utils.SearchBudget;
 
 /**
  * Contract for a Tic-Tac-Toe AI that can select the next move
@@ -15,4 +16,16 @@ public interface AiMove {
      */
     Point makeMove();
 
+    /**
+     * Computes the next move coordinates within the given budget, returning the best move
+     * found so far when the budget runs out. Implementations whose cost is already bounded
+     * may ignore the budget; the default delegates to {@link #makeMove()}.
+     *
+     * @param budget limits on time and visited positions
+     * @return a {@link Point} containing zero-based row and column indices
+     */
+    default Point makeMove(SearchBudget budget) {
+        return this.makeMove();
+    }
+
 }
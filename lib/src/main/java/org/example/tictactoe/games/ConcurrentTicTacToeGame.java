@@ -0,0 +1,248 @@
+package org.example.tictactoe.games;
+
+import org.example.tictactoe.boards.TicTacToeBoard;
+import org.example.tictactoe.enums.GameState;
+import org.example.tictactoe.enums.MoveStatus;
+import org.example.tictactoe.enums.PlayerType;
+import org.example.tictactoe.exceptions.FalseStateException;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe Tic-Tac-Toe game whose every move is a single atomic state transition.
+ * <p>
+ * The marks, the player to move and the {@link GameState} are packed into one {@code long}
+ * (see {@link PackedGameCodec}) held in an {@link AtomicLong}. A move computes the next word from
+ * the current one and publishes it with compare-and-set, retrying against the fresh state if another
+ * thread moved first; the retry re-validates the move, so of two concurrent moves for the same turn
+ * exactly one succeeds. No locks are taken, so any number of threads may submit moves without
+ * blocking each other, and every read observes a state that actually occurred.
+ * <p>
+ * Clients that must not act on outdated information read a {@link #snapshot()} and submit their move
+ * with {@link #tryMove(long, int, int)}, which reports {@link MoveStatus#STALE} instead of retrying when the
+ * game has changed since. Both {@code tryMove} methods report invalid moves through their result rather than
+ * by an exception. The packed encoding limits boards to {@value PackedGameCodec#MAX_SIZE} x
+ * {@value PackedGameCodec#MAX_SIZE} cells.
+ */
+public class ConcurrentTicTacToeGame {
+
+    private final PackedGameCodec codec;
+    private final Map<GameState, String> players;
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * Creates a game with default player names ("Player X" and "Player O").
+     */
+    public ConcurrentTicTacToeGame() {
+        this("Player X", "Player O");
+    }
+
+    /**
+     * Creates a classic 3x3 game with custom player names.
+     *
+     * @param playerX name of the X player
+     * @param playerO name of the O player
+     */
+    public ConcurrentTicTacToeGame(String playerX, String playerO) {
+        this(playerX, playerO, TicTacToeBoard.SIZE, TicTacToeBoard.SIZE);
+    }
+
+    /**
+     * Creates a game with custom player names on a board of the given geometry.
+     *
+     * @param playerX   name of the X player
+     * @param playerO   name of the O player
+     * @param size      side length of the board, at most {@value PackedGameCodec#MAX_SIZE}
+     * @param winLength number of marks in a row required to win
+     * @throws IllegalArgumentException if the size is out of range or the win length is not in range 1..size
+     */
+    public ConcurrentTicTacToeGame(String playerX, String playerO, int size, int winLength) {
+        this.codec = PackedGameCodec.of(size, winLength);
+        this.players = Map.of(
+                GameState.O_WINS, playerO,
+                GameState.X_WINS, playerX
+        );
+    }
+
+    /**
+     * Returns the current packed state. Pass it to {@link #tryMove(long, int, int)} to move only
+     * if nothing has changed in the meantime.
+     *
+     * @return opaque state word
+     */
+    public long snapshot() {
+        return state.get();
+    }
+
+    /**
+     * Returns a copy of the current board; later moves do not affect it.
+     *
+     * @return board snapshot
+     */
+    public TicTacToeBoard getBoard() {
+        return codec.toBoard(state.get());
+    }
+
+    /**
+     * Returns the player occupying the specified cell.
+     *
+     * @param row zero-based row index
+     * @param col zero-based column index
+     * @return the {@link PlayerType} at the cell, or {@code null} if empty
+     * @throws org.example.tictactoe.exceptions.CellOutOfBoundsException if the coordinates are outside the board bounds
+     */
+    public PlayerType getPlayer(int row, int col) {
+        return codec.player(state.get(), row, col);
+    }
+
+    /**
+     * Returns the current game state.
+     *
+     * @return the {@link GameState}
+     */
+    public GameState getGameState() {
+        return PackedGameCodec.state(state.get());
+    }
+
+    /**
+     * Returns the type of the player who is to move next.
+     *
+     * @return {@link PlayerType#X} or {@link PlayerType#O}
+     */
+    public PlayerType getCurrentPlayerType() {
+        return PackedGameCodec.toMove(state.get());
+    }
+
+    /**
+     * Returns the number of moves played so far.
+     *
+     * @return move count
+     */
+    public int getMoveCount() {
+        return PackedGameCodec.moveCount(state.get());
+    }
+
+    /**
+     * Returns the display name of the player whose turn it is.
+     *
+     * @return player name if the game is in progress; {@code null} otherwise
+     */
+    public String getCurrentPlayerName() {
+        long current = state.get();
+        return PackedGameCodec.state(current) == GameState.IN_PROGRESS
+                ? players.get(PackedGameCodec.toMove(current).getAnalog())
+                : null;
+    }
+
+    /**
+     * Returns the result label if the game is finished.
+     *
+     * @return winner name for a win, "Draw" for a draw, or {@code null} if the game is not finished
+     */
+    public String getResult() {
+        GameState gameState = this.getGameState();
+        if (gameState == GameState.O_WINS || gameState == GameState.X_WINS) {
+            return players.get(gameState);
+        } else if (gameState == GameState.DRAW) {
+            return gameState.toString();
+        }
+        return null;
+    }
+
+    /**
+     * Starts the game, transitioning the state to {@link GameState#IN_PROGRESS}.
+     *
+     * @throws FalseStateException if the game has already started or finished
+     */
+    public void start() {
+        long current;
+        do {
+            current = state.get();
+        } while (!state.compareAndSet(current, codec.start(current)));
+    }
+
+    /**
+     * Performs a move for the player to move at the moment the move is applied.
+     *
+     * @param row zero-based row index
+     * @param col zero-based column index
+     * @return resulting {@link GameState} after the move
+     * @throws FalseStateException if the game is not started or already over
+     * @throws org.example.tictactoe.exceptions.CellOutOfBoundsException if the coordinates are outside the board bounds
+     * @throws org.example.tictactoe.exceptions.CellOccupiedException if the target cell is already occupied
+     */
+    public GameState move(int row, int col) {
+        long current;
+        long next;
+        do {
+            current = state.get();
+            next = codec.move(current, row, col);
+        } while (!state.compareAndSet(current, next));
+        return PackedGameCodec.state(next);
+    }
+
+    /**
+     * Performs a move on behalf of the given player, failing if it is not that player's turn
+     * when the move is applied. Of two concurrent submissions for the same turn, at most one succeeds.
+     *
+     * @param player player submitting the move
+     * @param row    zero-based row index
+     * @param col    zero-based column index
+     * @return resulting {@link GameState} after the move
+     * @throws FalseStateException if the game is not in progress or it is the other player's turn
+     * @throws org.example.tictactoe.exceptions.CellOutOfBoundsException if the coordinates are outside the board bounds
+     * @throws org.example.tictactoe.exceptions.CellOccupiedException if the target cell is already occupied
+     */
+    public GameState move(PlayerType player, int row, int col) {
+        long current;
+        long next;
+        do {
+            current = state.get();
+            if (PackedGameCodec.state(current) == GameState.IN_PROGRESS && PackedGameCodec.toMove(current) != player) {
+                throw new FalseStateException("It is not " + player + "'s turn");
+            }
+            next = codec.move(current, row, col);
+        } while (!state.compareAndSet(current, next));
+        return PackedGameCodec.state(next);
+    }
+
+    /**
+     * Performs a move for the player to move at the moment the move is applied, reporting a rejected
+     * move through the result instead of an exception.
+     *
+     * @param row zero-based row index
+     * @param col zero-based column index
+     * @return {@link MoveStatus#ACCEPTED} if the move was played, otherwise the reason it was rejected
+     */
+    public MoveStatus tryMove(int row, int col) {
+        long current;
+        do {
+            current = state.get();
+            MoveStatus status = codec.check(current, row, col);
+            if (status != MoveStatus.ACCEPTED) {
+                return status;
+            }
+        } while (!state.compareAndSet(current, codec.apply(current, row, col)));
+        return MoveStatus.ACCEPTED;
+    }
+
+    /**
+     * Performs a move for the player to move only if the game is still in the given state.
+     * A single attempt is made; a stale, duplicate or invalid submission fails without side effects.
+     *
+     * @param expected state previously read through {@link #snapshot()}
+     * @param row      zero-based row index
+     * @param col      zero-based column index
+     * @return {@link MoveStatus#ACCEPTED} if the move was applied, {@link MoveStatus#STALE} if the game
+     *         has changed since the snapshot, otherwise the reason the move is invalid in the expected state
+     */
+    public MoveStatus tryMove(long expected, int row, int col) {
+        MoveStatus status = codec.check(expected, row, col);
+        if (status != MoveStatus.ACCEPTED) {
+            return status;
+        }
+        return state.compareAndSet(expected, codec.apply(expected, row, col))
+                ? MoveStatus.ACCEPTED : MoveStatus.STALE;
+    }
+}
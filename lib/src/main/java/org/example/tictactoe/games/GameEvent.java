@@ -0,0 +1,14 @@
+package org.example.tictactoe.games;
+
+/**
+ * Change of a game observed through its {@link SpectatorFeed}: the game was started, a move was played,
+ * undone or redone, or the feed was opened.
+ * <p>
+ * Every event carries the complete position, so a spectator that missed events (see
+ * {@link SpectatorFeed}) is up to date again with the next one it receives.
+ *
+ * @param sequence number of the event within its feed, starting at 0 and increasing by one per event
+ * @param snapshot position of the game after the change
+ */
+public record GameEvent(long sequence, GameSnapshot snapshot) {
+}
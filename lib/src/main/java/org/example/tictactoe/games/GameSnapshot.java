@@ -0,0 +1,244 @@
+package org.example.tictactoe.games;
+
+import org.example.tictactoe.boards.TicTacToeBoard;
+import org.example.tictactoe.enums.GameState;
+import org.example.tictactoe.enums.PlayerType;
+import org.example.tictactoe.exceptions.CellOccupiedException;
+import org.example.tictactoe.exceptions.CellOutOfBoundsException;
+import org.example.tictactoe.exceptions.FalseStateException;
+
+/**
+ * Immutable position of a game, stored as its last move and a link to the position before it.
+ * <p>
+ * Snapshots form a persistent tree: {@link #play(int, int)} returns a new snapshot holding a single
+ * move and sharing the whole history with the snapshot it was played from, so any number of analysis
+ * branches from a common position cost one small object per move. Queries that need the marks walk
+ * the history, in time proportional to the number of moves; {@link #toBoard()} materializes a board
+ * for repeated lookups. Snapshots are safe to share between threads.
+ */
+public final class GameSnapshot {
+
+    private static final int NO_MOVE = -1;
+
+    /** Directions (row delta, column delta) of the four line orientations. */
+    private static final int[][] DIRECTIONS = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+
+    private final int size;
+    private final int winLength;
+
+    /** Position before the last move; {@code null} for the initial position. */
+    private final GameSnapshot parent;
+
+    /** Cell index {@code row * size + col} of the last move; {@link #NO_MOVE} for the initial position. */
+    private final int cell;
+
+    private final int moveCount;
+    private final GameState gameState;
+
+    private GameSnapshot(int size, int winLength, GameSnapshot parent, int cell, int moveCount, GameState gameState) {
+        this.size = size;
+        this.winLength = winLength;
+        this.parent = parent;
+        this.cell = cell;
+        this.moveCount = moveCount;
+        this.gameState = gameState;
+    }
+
+    /** Returns the empty position of a started game. */
+    static GameSnapshot start(int size, int winLength) {
+        return new GameSnapshot(size, winLength, null, NO_MOVE, 0, GameState.IN_PROGRESS);
+    }
+
+    /** Returns the empty position of a game that has not been started. */
+    static GameSnapshot notStarted(int size, int winLength) {
+        return new GameSnapshot(size, winLength, null, NO_MOVE, 0, GameState.NOT_STARTED);
+    }
+
+    /**
+     * Links the position after a move whose legality and outcome the caller has already determined,
+     * in constant time.
+     *
+     * @param target cell index {@code row * size + col} of the move
+     * @param state  game state after the move
+     * @return snapshot after the move
+     */
+    GameSnapshot append(int target, GameState state) {
+        return new GameSnapshot(size, winLength, this, target, moveCount + 1, state);
+    }
+
+    /**
+     * Returns the position after the player to move marks the given cell. This snapshot is unchanged.
+     *
+     * @param row zero-based row index
+     * @param col zero-based column index
+     * @return snapshot after the move
+     * @throws FalseStateException      if the game is not started or already over
+     * @throws CellOutOfBoundsException if the coordinates are outside the board bounds
+     * @throws CellOccupiedException    if the target cell is already occupied
+     */
+    public GameSnapshot play(int row, int col) {
+        if (gameState == GameState.NOT_STARTED) {
+            throw new FalseStateException("Game is not started");
+        } else if (gameState != GameState.IN_PROGRESS) {
+            throw new FalseStateException("Game is already over");
+        }
+        if (!this.isInside(row, col)) {
+            throw new CellOutOfBoundsException(row, col);
+        }
+        int target = row * size + col;
+        PlayerType player = this.getCurrentPlayerType();
+        long[] own = new long[(size * size + Long.SIZE - 1) / Long.SIZE];
+        for (GameSnapshot node = this; node.parent != null; node = node.parent) {
+            if (node.cell == target) {
+                throw new CellOccupiedException(row, col);
+            }
+            if (node.mover() == player) {
+                own[node.cell >>> 6] |= 1L << node.cell;
+            }
+        }
+        own[target >>> 6] |= 1L << target;
+
+        GameState next = GameState.IN_PROGRESS;
+        if (this.isWinningMove(own, row, col)) {
+            next = GameState.checkState(player);
+        } else if (moveCount + 1 == size * size) {
+            next = GameState.DRAW;
+        }
+        return new GameSnapshot(size, winLength, this, target, moveCount + 1, next);
+    }
+
+    /**
+     * Returns the position before the last move.
+     *
+     * @return previous snapshot, or {@code null} if no move has been played
+     */
+    public GameSnapshot getParent() {
+        return parent;
+    }
+
+    /**
+     * Returns the side length of the board.
+     *
+     * @return number of rows (and columns)
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of marks in a row required to win.
+     *
+     * @return win length
+     */
+    public int getWinLength() {
+        return winLength;
+    }
+
+    /**
+     * Returns the number of moves played.
+     *
+     * @return move count
+     */
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    /**
+     * Returns the game state of this position.
+     *
+     * @return the {@link GameState}
+     */
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    /**
+     * Returns the player to move in this position; after a finished game, the one who would be next.
+     *
+     * @return {@link PlayerType#X} or {@link PlayerType#O}
+     */
+    public PlayerType getCurrentPlayerType() {
+        return (moveCount & 1) == 0 ? PlayerType.X : PlayerType.O;
+    }
+
+    /**
+     * Returns the player occupying the specified cell.
+     *
+     * @param row zero-based row index
+     * @param col zero-based column index
+     * @return the {@link PlayerType} at the cell, or {@code null} if empty
+     * @throws CellOutOfBoundsException if the coordinates are outside the board bounds
+     */
+    public PlayerType getPlayer(int row, int col) {
+        if (!this.isInside(row, col)) {
+            throw new CellOutOfBoundsException(row, col);
+        }
+        int target = row * size + col;
+        for (GameSnapshot node = this; node.parent != null; node = node.parent) {
+            if (node.cell == target) {
+                return node.mover();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the moves leading to this position as cell indices {@code row * size + col}, in the order they were played.
+     *
+     * @return a new array with one entry per move
+     */
+    public int[] getMoveHistory() {
+        int[] moves = new int[moveCount];
+        for (GameSnapshot node = this; node.parent != null; node = node.parent) {
+            moves[node.moveCount - 1] = node.cell;
+        }
+        return moves;
+    }
+
+    /**
+     * Builds a mutable board holding the marks of this position.
+     *
+     * @return new board of this geometry
+     */
+    public TicTacToeBoard toBoard() {
+        var board = new TicTacToeBoard(size, winLength);
+        for (GameSnapshot node = this; node.parent != null; node = node.parent) {
+            board.place(node.cell, node.mover());
+        }
+        return board;
+    }
+
+    @Override
+    public String toString() {
+        return "GameSnapshot[" + size + "x" + size + ", moves=" + moveCount + ", " + gameState + "]";
+    }
+
+    /** Returns the player who made the move stored in this node. */
+    private PlayerType mover() {
+        return (moveCount & 1) == 1 ? PlayerType.X : PlayerType.O;
+    }
+
+    /** Checks whether the marks form a winning line through the given cell. */
+    private boolean isWinningMove(long[] own, int row, int col) {
+        for (int[] direction : DIRECTIONS) {
+            int length = 1;
+            for (int sign = -1; sign <= 1; sign += 2) {
+                int r = row + sign * direction[0];
+                int c = col + sign * direction[1];
+                while (length < winLength && this.isInside(r, c) && (own[(r * size + c) >>> 6] & 1L << (r * size + c)) != 0) {
+                    length++;
+                    r += sign * direction[0];
+                    c += sign * direction[1];
+                }
+            }
+            if (length >= winLength) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isInside(int row, int col) {
+        return row >= 0 && row < size && col >= 0 && col < size;
+    }
+}
@@ -0,0 +1,273 @@
+package org.example.tictactoe.games;
+
+import org.example.tictactoe.boards.TicTacToeBoard;
+import org.example.tictactoe.enums.GameState;
+import org.example.tictactoe.enums.MoveStatus;
+import org.example.tictactoe.enums.PlayerType;
+import org.example.tictactoe.exceptions.CellOccupiedException;
+import org.example.tictactoe.exceptions.CellOutOfBoundsException;
+import org.example.tictactoe.exceptions.FalseStateException;
+
+import java.util.Arrays;
+
+/**
+ * Encodes a whole game (marks, player to move and {@link GameState}) into a single {@code long}
+ * and implements the game rules as pure functions from one encoded state to the next.
+ * <p>
+ * Bits {@code 0..27} hold X's marks and bits {@code 28..55} O's marks, cell {@code (row, col)}
+ * mapping to bit {@code row * size + col} of each half; bit 56 is set when O is to move and
+ * bits {@code 57..59} hold the ordinal of the {@link GameState}. The all-zero word is a game
+ * that has not started. Boards of up to {@link #MAX_SIZE} x {@link #MAX_SIZE} cells fit.
+ * <p>
+ * One immutable codec is shared by all games of the same geometry.
+ */
+final class PackedGameCodec {
+
+    /** Largest side length whose board fits into the encoding. */
+    static final int MAX_SIZE = 5;
+
+    private static final int O_SHIFT = 28;
+    private static final int TURN_SHIFT = 56;
+    private static final int STATE_SHIFT = 57;
+    private static final long CELLS_MASK = (1L << O_SHIFT) - 1;
+    private static final long STATE_MASK = 0b111L << STATE_SHIFT;
+    private static final GameState[] STATES = GameState.values();
+
+    /** Codecs of every supported geometry, indexed by size and win length; built up front so lookups never allocate. */
+    private static final PackedGameCodec[][] CODECS = new PackedGameCodec[MAX_SIZE + 1][];
+
+    static {
+        for (int size = 1; size <= MAX_SIZE; size++) {
+            CODECS[size] = new PackedGameCodec[size + 1];
+            for (int winLength = 1; winLength <= size; winLength++) {
+                CODECS[size][winLength] = new PackedGameCodec(size, winLength);
+            }
+        }
+    }
+
+    private final int size;
+    private final int winLength;
+
+    /** Winning line masks passing through every cell. */
+    private final long[][] linesByCell;
+
+    private PackedGameCodec(int size, int winLength) {
+        this.size = size;
+        this.winLength = winLength;
+        this.linesByCell = new long[size * size][];
+        int[][] directions = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+        long[] buffer = new long[directions.length * winLength];
+        for (int cell = 0; cell < size * size; cell++) {
+            int count = 0;
+            for (int[] direction : directions) {
+                for (int offset = 0; offset < winLength; offset++) {
+                    int startRow = cell / size - offset * direction[0];
+                    int startCol = cell % size - offset * direction[1];
+                    int endRow = startRow + (winLength - 1) * direction[0];
+                    int endCol = startCol + (winLength - 1) * direction[1];
+                    if (!this.isInside(startRow, startCol) || !this.isInside(endRow, endCol)) {
+                        continue;
+                    }
+                    long mask = 0;
+                    for (int i = 0; i < winLength; i++) {
+                        mask |= 1L << ((startRow + i * direction[0]) * size + startCol + i * direction[1]);
+                    }
+                    buffer[count++] = mask;
+                }
+            }
+            linesByCell[cell] = Arrays.copyOf(buffer, count);
+        }
+    }
+
+    /**
+     * Returns the shared codec for the given geometry.
+     *
+     * @param size      side length of the board
+     * @param winLength number of marks in a row required to win
+     * @return cached codec
+     * @throws IllegalArgumentException if the size is not in range 1..{@link #MAX_SIZE} or the win length is not in range 1..size
+     */
+    static PackedGameCodec of(int size, int winLength) {
+        if (size <= 0 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Board size must be in range 1.." + MAX_SIZE + ": " + size);
+        }
+        if (winLength <= 0 || winLength > size) {
+            throw new IllegalArgumentException("Win length must be in range 1.." + size + ": " + winLength);
+        }
+        return CODECS[size][winLength];
+    }
+
+    int size() {
+        return size;
+    }
+
+    int winLength() {
+        return winLength;
+    }
+
+    /**
+     * Returns the state after starting the game.
+     *
+     * @param packed current state
+     * @return started state
+     * @throws FalseStateException if the game has already started or finished
+     */
+    long start(long packed) {
+        if (state(packed) != GameState.NOT_STARTED) {
+            throw new FalseStateException("Game has already started or finished");
+        }
+        return withState(packed, GameState.IN_PROGRESS);
+    }
+
+    /**
+     * Returns the state after the player to move marks the given cell.
+     *
+     * @param packed current state
+     * @param row    zero-based row index
+     * @param col    zero-based column index
+     * @return state after the move
+     * @throws FalseStateException      if the game is not started or already over
+     * @throws CellOutOfBoundsException if the coordinates are outside the board bounds
+     * @throws CellOccupiedException    if the target cell is already occupied
+     */
+    long move(long packed, int row, int col) {
+        MoveStatus status = this.check(packed, row, col);
+        if (status != MoveStatus.ACCEPTED) {
+            throw status.toException(row, col);
+        }
+        return this.apply(packed, row, col);
+    }
+
+    /**
+     * Checks whether the player to move may mark the given cell, without throwing.
+     *
+     * @param packed current state
+     * @param row    zero-based row index
+     * @param col    zero-based column index
+     * @return {@link MoveStatus#ACCEPTED}, or the reason the move would be rejected
+     */
+    MoveStatus check(long packed, int row, int col) {
+        GameState state = state(packed);
+        if (state == GameState.NOT_STARTED) {
+            return MoveStatus.NOT_STARTED;
+        } else if (state != GameState.IN_PROGRESS) {
+            return MoveStatus.GAME_OVER;
+        }
+        if (!this.isInside(row, col)) {
+            return MoveStatus.OUT_OF_BOUNDS;
+        }
+        long bit = 1L << (row * size + col);
+        if (((xMask(packed) | oMask(packed)) & bit) != 0) {
+            return MoveStatus.OCCUPIED;
+        }
+        return MoveStatus.ACCEPTED;
+    }
+
+    /**
+     * Returns the state after the player to move marks a cell that {@link #check(long, int, int)} accepted.
+     *
+     * @param packed current state
+     * @param row    zero-based row index
+     * @param col    zero-based column index
+     * @return state after the move
+     */
+    long apply(long packed, int row, int col) {
+        int cell = row * size + col;
+        long bit = 1L << cell;
+        PlayerType player = toMove(packed);
+        long next = packed | (player == PlayerType.X ? bit : bit << O_SHIFT);
+        long marks = player == PlayerType.X ? xMask(next) : oMask(next);
+        for (long line : linesByCell[cell]) {
+            if ((marks & line) == line) {
+                return withState(next, GameState.checkState(player));
+            }
+        }
+        if (Long.bitCount(xMask(next) | oMask(next)) == size * size) {
+            return withState(next, GameState.DRAW);
+        }
+        return next ^ (1L << TURN_SHIFT);
+    }
+
+    /**
+     * Returns the player occupying a cell.
+     *
+     * @param packed encoded state
+     * @param row    zero-based row index
+     * @param col    zero-based column index
+     * @return the {@link PlayerType} at the cell, or {@code null} if empty
+     * @throws CellOutOfBoundsException if the coordinates are outside the board bounds
+     */
+    PlayerType player(long packed, int row, int col) {
+        if (!this.isInside(row, col)) {
+            throw new CellOutOfBoundsException(row, col);
+        }
+        long bit = 1L << (row * size + col);
+        if ((xMask(packed) & bit) != 0) {
+            return PlayerType.X;
+        }
+        return (oMask(packed) & bit) != 0 ? PlayerType.O : null;
+    }
+
+    /**
+     * Builds a board holding the marks of an encoded state.
+     *
+     * @param packed encoded state
+     * @return new board of this geometry
+     */
+    TicTacToeBoard toBoard(long packed) {
+        var board = new TicTacToeBoard(size, winLength);
+        for (int cell = 0; cell < size * size; cell++) {
+            PlayerType player = this.player(packed, cell / size, cell % size);
+            if (player != null) {
+                board.place(cell, player);
+            }
+        }
+        return board;
+    }
+
+    /**
+     * Decodes the game state.
+     *
+     * @param packed encoded state
+     * @return the {@link GameState}
+     */
+    static GameState state(long packed) {
+        return STATES[(int) ((packed & STATE_MASK) >>> STATE_SHIFT)];
+    }
+
+    /**
+     * Decodes the player to move.
+     *
+     * @param packed encoded state
+     * @return {@link PlayerType#X} or {@link PlayerType#O}
+     */
+    static PlayerType toMove(long packed) {
+        return (packed >>> TURN_SHIFT & 1) == 0 ? PlayerType.X : PlayerType.O;
+    }
+
+    /**
+     * Returns the number of marks on the board.
+     *
+     * @param packed encoded state
+     * @return number of moves played
+     */
+    static int moveCount(long packed) {
+        return Long.bitCount(xMask(packed) | oMask(packed));
+    }
+
+    private static long xMask(long packed) {
+        return packed & CELLS_MASK;
+    }
+
+    private static long oMask(long packed) {
+        return packed >>> O_SHIFT & CELLS_MASK;
+    }
+
+    private static long withState(long packed, GameState state) {
+        return packed & ~STATE_MASK | (long) state.ordinal() << STATE_SHIFT;
+    }
+
+    private boolean isInside(int row, int col) {
+        return row >= 0 && row < size && col >= 0 && col < size;
+    }
+}
@@ -0,0 +1,179 @@
+package org.example.tictactoe.games;
+
+import org.example.tictactoe.boards.TicTacToeBoard;
+import org.example.tictactoe.enums.GameState;
+import org.example.tictactoe.enums.MoveStatus;
+import org.example.tictactoe.enums.PlayerType;
+import org.example.tictactoe.exceptions.FalseStateException;
+
+/**
+ * Memory-lean Tic-Tac-Toe game for holding large numbers of mostly idle sessions.
+ * <p>
+ * The marks, the player to move and the {@link GameState} live in a single {@code long}
+ * (see {@link PackedGameCodec}); the rules and the geometry are held by a codec shared by all games
+ * of the same size, and the player names by a {@link PlayerNames} instance the caller may share
+ * between games. A game therefore costs one small object and nothing else, a small fraction of
+ * a {@link TicTacToeGame}, which keeps a board, a name map and its move history.
+ * <p>
+ * The game offers no undo, history or AI and is not thread-safe; see {@link ConcurrentTicTacToeGame}
+ * for the same encoding behind an atomic reference. Boards are limited to {@value PackedGameCodec#MAX_SIZE} x
+ * {@value PackedGameCodec#MAX_SIZE} cells.
+ */
+public final class PackedTicTacToeGame {
+
+    private final PackedGameCodec codec;
+    private final PlayerNames names;
+    private long state;
+
+    /**
+     * Creates a classic 3x3 game with the {@linkplain PlayerNames#DEFAULT default player names}.
+     */
+    public PackedTicTacToeGame() {
+        this(PlayerNames.DEFAULT, TicTacToeBoard.SIZE, TicTacToeBoard.SIZE);
+    }
+
+    /**
+     * Creates a classic 3x3 game with custom player names.
+     *
+     * @param playerX name of the X player
+     * @param playerO name of the O player
+     */
+    public PackedTicTacToeGame(String playerX, String playerO) {
+        this(new PlayerNames(playerX, playerO), TicTacToeBoard.SIZE, TicTacToeBoard.SIZE);
+    }
+
+    /**
+     * Creates a game with shared player names on a board of the given geometry.
+     *
+     * @param names     player names, not copied
+     * @param size      side length of the board, at most {@value PackedGameCodec#MAX_SIZE}
+     * @param winLength number of marks in a row required to win
+     * @throws IllegalArgumentException if the size is out of range or the win length is not in range 1..size
+     */
+    public PackedTicTacToeGame(PlayerNames names, int size, int winLength) {
+        this.codec = PackedGameCodec.of(size, winLength);
+        this.names = names;
+    }
+
+    /**
+     * Returns the player names of this game.
+     *
+     * @return shared names
+     */
+    public PlayerNames getPlayerNames() {
+        return names;
+    }
+
+    /**
+     * Builds a board holding the current marks; later moves do not affect it.
+     *
+     * @return board snapshot
+     */
+    public TicTacToeBoard getBoard() {
+        return codec.toBoard(state);
+    }
+
+    /**
+     * Returns the player occupying the specified cell.
+     *
+     * @param row zero-based row index
+     * @param col zero-based column index
+     * @return the {@link PlayerType} at the cell, or {@code null} if empty
+     * @throws org.example.tictactoe.exceptions.CellOutOfBoundsException if the coordinates are outside the board bounds
+     */
+    public PlayerType getPlayer(int row, int col) {
+        return codec.player(state, row, col);
+    }
+
+    /**
+     * Returns the current game state.
+     *
+     * @return the {@link GameState}
+     */
+    public GameState getGameState() {
+        return PackedGameCodec.state(state);
+    }
+
+    /**
+     * Returns the type of the player who is to move next.
+     *
+     * @return {@link PlayerType#X} or {@link PlayerType#O}
+     */
+    public PlayerType getCurrentPlayerType() {
+        return PackedGameCodec.toMove(state);
+    }
+
+    /**
+     * Returns the number of moves played so far.
+     *
+     * @return move count
+     */
+    public int getMoveCount() {
+        return PackedGameCodec.moveCount(state);
+    }
+
+    /**
+     * Returns the display name of the player whose turn it is.
+     *
+     * @return player name if the game is in progress; {@code null} otherwise
+     */
+    public String getCurrentPlayerName() {
+        return PackedGameCodec.state(state) == GameState.IN_PROGRESS ? names.of(PackedGameCodec.toMove(state)) : null;
+    }
+
+    /**
+     * Returns the result label if the game is finished.
+     *
+     * @return winner name for a win, "Draw" for a draw, or {@code null} if the game is not finished
+     */
+    public String getResult() {
+        GameState gameState = PackedGameCodec.state(state);
+        if (gameState == GameState.X_WINS) {
+            return names.playerX();
+        } else if (gameState == GameState.O_WINS) {
+            return names.playerO();
+        } else if (gameState == GameState.DRAW) {
+            return gameState.toString();
+        }
+        return null;
+    }
+
+    /**
+     * Starts the game, transitioning the state to {@link GameState#IN_PROGRESS}.
+     *
+     * @throws FalseStateException if the game has already started or finished
+     */
+    public void start() {
+        state = codec.start(state);
+    }
+
+    /**
+     * Performs a move for the current player at the given coordinates and advances the game state.
+     *
+     * @param row zero-based row index
+     * @param col zero-based column index
+     * @return resulting {@link GameState} after the move
+     * @throws FalseStateException if the game is not started or already over
+     * @throws org.example.tictactoe.exceptions.CellOutOfBoundsException if the coordinates are outside the board bounds
+     * @throws org.example.tictactoe.exceptions.CellOccupiedException if the target cell is already occupied
+     */
+    public GameState move(int row, int col) {
+        state = codec.move(state, row, col);
+        return PackedGameCodec.state(state);
+    }
+
+    /**
+     * Performs a move for the current player, reporting a rejected move through the result instead of an exception.
+     *
+     * @param row zero-based row index
+     * @param col zero-based column index
+     * @return {@link MoveStatus#ACCEPTED} if the move was played, otherwise the reason it was rejected
+     */
+    public MoveStatus tryMove(int row, int col) {
+        MoveStatus status = codec.check(state, row, col);
+        if (status == MoveStatus.ACCEPTED) {
+            state = codec.apply(state, row, col);
+        }
+        return status;
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.tictactoe.games;
+
+import org.example.tictactoe.enums.PlayerType;
+
+/**
+ * Display names of the two players, held once and shared by any number of games.
+ *
+ * @param playerX name of the X player
+ * @param playerO name of the O player
+ */
+public record PlayerNames(String playerX, String playerO) {
+
+    /** Default names ("Player X" and "Player O"). */
+    public static final PlayerNames DEFAULT = new PlayerNames("Player X", "Player O");
+
+    /**
+     * Returns the name of the given player.
+     *
+     * @param player {@link PlayerType#X} or {@link PlayerType#O}
+     * @return player name
+     */
+    public String of(PlayerType player) {
+        return player == PlayerType.X ? playerX : playerO;
+    }
+}
@@ -0,0 +1,265 @@
+package org.example.tictactoe.games;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Publishes the {@link GameEvent}s of one game to any number of spectators.
+ * <p>
+ * Events are delivered in batches: each {@code onNext} carries every event the spectator has not seen yet,
+ * and each requested item is one batch. The last {@link #getBufferSize()} events are kept in a ring shared
+ * by all spectators, each of which only holds its position in it, so the memory of a feed does not grow with
+ * its audience. A spectator that falls further behind than the ring is conflated: its next batch holds only
+ * the newest event, whose snapshot is the complete current board; the gap in the sequence numbers shows what
+ * was skipped.
+ * <p>
+ * Publishing an event stores it in the ring and, unless a delivery round is already pending, submits one task to
+ * the executor, independently of the number of spectators. That task wakes the spectators, whose batches are
+ * delivered on the executor with the signals to each subscriber serialized. Events are published by the thread
+ * playing the game; subscribing, requesting and cancelling are safe from any thread.
+ * <p>
+ * If the executor rejects a task, for example because its queue is full, the delivery is dropped without
+ * affecting the game; the next published event schedules it again.
+ */
+public final class SpectatorFeed implements Flow.Publisher<List<GameEvent>> {
+
+    /** Number of events kept for spectators that fall behind, unless configured otherwise. */
+    public static final int DEFAULT_BUFFER_SIZE = 64;
+
+    private final Executor executor;
+    private final int bufferSize;
+
+    /** Recent events, event {@code s} in slot {@code s % bufferSize}. */
+    private final AtomicReferenceArray<GameEvent> ring;
+
+    private final Set<Spectator> spectators = ConcurrentHashMap.newKeySet();
+
+    /** Set while a delivery round is submitted but has not started yet. */
+    private final AtomicBoolean roundPending = new AtomicBoolean();
+
+    private final Runnable round = this::deliveryRound;
+
+    /** Sequence number of the newest event; -1 before the first one. */
+    private volatile long latest = -1;
+
+    private volatile boolean closed;
+
+    /**
+     * Creates a feed delivering on the given executor.
+     *
+     * @param executor   runs the deliveries to the spectators
+     * @param bufferSize number of recent events kept for spectators that fall behind, at least 1
+     * @throws IllegalArgumentException if the buffer size is below 1
+     */
+    SpectatorFeed(Executor executor, int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size must be at least 1: " + bufferSize);
+        }
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+        this.ring = new AtomicReferenceArray<>(bufferSize);
+    }
+
+    /**
+     * Returns the number of recent events kept for spectators that fall behind.
+     *
+     * @return buffer size
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Returns the number of current spectators.
+     *
+     * @return subscriptions that have not been cancelled or completed
+     */
+    public int getSpectatorCount() {
+        return spectators.size();
+    }
+
+    /**
+     * Adds a spectator. Its first batch starts with the newest event, so it always sees the current position.
+     *
+     * @param subscriber receiver of event batches
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super List<GameEvent>> subscriber) {
+        var spectator = new Spectator(subscriber);
+        spectator.next = Math.max(latest, 0);
+        spectators.add(spectator);
+        // events published since reading the position are picked up by this drain or signalled by their round
+        spectator.signal();
+    }
+
+    /**
+     * Completes every spectator once it has received the pending events. Events published afterwards are
+     * discarded; later subscribers receive the final event and complete.
+     */
+    public void close() {
+        closed = true;
+        this.scheduleRound();
+    }
+
+    /**
+     * Appends an event holding the given position. Called by the thread playing the game.
+     *
+     * @param snapshot position after the change
+     */
+    void publish(GameSnapshot snapshot) {
+        if (closed) {
+            return;
+        }
+        long sequence = latest + 1;
+        ring.set(this.slot(sequence), new GameEvent(sequence, snapshot));
+        latest = sequence;
+        this.scheduleRound();
+    }
+
+    private void scheduleRound() {
+        if (!spectators.isEmpty() && roundPending.compareAndSet(false, true)) {
+            try {
+                executor.execute(round);
+            } catch (RejectedExecutionException e) {
+                // the change has already been applied to the game; the next publish retries the round
+                roundPending.set(false);
+            }
+        }
+    }
+
+    private void deliveryRound() {
+        roundPending.set(false);
+        for (Spectator spectator : spectators) {
+            spectator.signal();
+        }
+    }
+
+    /**
+     * Collects the events from {@code from} to {@code to}, or only the newest event
+     * if some of them have already left the ring.
+     */
+    private List<GameEvent> batch(long from, long to) {
+        if (to - from >= bufferSize) {
+            return List.of(this.newest());
+        }
+        var batch = new ArrayList<GameEvent>((int) (to - from + 1));
+        for (long sequence = from; sequence <= to; sequence++) {
+            GameEvent event = ring.get(this.slot(sequence));
+            if (event.sequence() != sequence) {
+                // overwritten while collecting
+                return List.of(this.newest());
+            }
+            batch.add(event);
+        }
+        return Collections.unmodifiableList(batch);
+    }
+
+    private GameEvent newest() {
+        return ring.get(this.slot(latest));
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % bufferSize);
+    }
+
+    /** Subscription of one spectator: its demand and its position in the ring. */
+    private final class Spectator implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super List<GameEvent>> subscriber;
+
+        /** Requested batches not delivered yet; {@link Long#MAX_VALUE} for unbounded demand. */
+        private final AtomicLong demand = new AtomicLong();
+
+        /** Number of signals not yet handled by {@link #drain()}; the drain runs while it is positive. */
+        private final AtomicInteger work = new AtomicInteger();
+
+        /** Sequence number of the next event to deliver; only touched by {@link #drain()} after subscription. */
+        private long next;
+
+        private boolean subscribed;
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+
+        private Spectator(Flow.Subscriber<? super List<GameEvent>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Requested batches must be positive: " + n);
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            this.signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            spectators.remove(this);
+        }
+
+        private void signal() {
+            if (work.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // nothing was delivered; the next delivery round signals this spectator again
+                    work.set(0);
+                }
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                if (!subscribed) {
+                    subscribed = true;
+                    subscriber.onSubscribe(this);
+                }
+                if (cancelled) {
+                    return;
+                }
+                if (error != null) {
+                    this.cancel();
+                    subscriber.onError(error);
+                    return;
+                }
+                boolean done = closed;
+                long last = latest;
+                while (next <= last && demand.get() > 0 && !cancelled) {
+                    List<GameEvent> batch = SpectatorFeed.this.batch(next, last);
+                    next = batch.getLast().sequence() + 1;
+                    if (demand.get() != Long.MAX_VALUE) {
+                        demand.decrementAndGet();
+                    }
+                    try {
+                        subscriber.onNext(batch);
+                    } catch (Throwable e) {
+                        this.cancel();
+                        subscriber.onError(e);
+                        return;
+                    }
+                    last = latest;
+                }
+                if (done && next > last && !cancelled) {
+                    this.cancel();
+                    subscriber.onComplete();
+                    return;
+                }
+                missed = work.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
@@ -1,15 +1,34 @@
 package org.example.tictactoe.games;
 
 import org.example.tictactoe.enums.GameState;
+import org.example.tictactoe.enums.MoveStatus;
 import org.example.tictactoe.enums.PlayerType;
 import org.example.tictactoe.boards.TicTacToeBoard;
 import org.example.tictactoe.exceptions.FalseStateException;
+import org.example.tictactoe.metrics.AiSearchEvent;
+import org.example.tictactoe.metrics.GameMetrics;
+import org.example.tictactoe.metrics.Metrics;
 
+import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Core Tic-Tac-Toe game engine that manages turns, validates moves,
  * and calculates game outcomes (win/draw/in-progress).
+ * The cells of all moves played are kept in order, so a game can be recorded and replayed.
+ * <p>
+ * Moves can be taken back with {@link #undo()} and played again with {@link #redo()}, each in
+ * constant time; both restore the game state and the player to move. Playing a new move discards
+ * the moves that could have been redone. {@link #snapshot()} captures the position as an immutable
+ * {@link GameSnapshot}; snapshots of one game share their common history.
+ * <p>
+ * Other parties can watch a game through its {@link #spectators()} feed, which receives an event after
+ * every change of the position. The feed is created on first use; until then changes cost nothing extra.
+ * <p>
+ * Every game reports to the {@link GameMetrics} installed in {@link Metrics} when it was created;
+ * moves are only timed when those metrics are enabled.
  */
 public class TicTacToeGame {
 
@@ -21,6 +40,20 @@ public class TicTacToeGame {
     protected GameState gameState = GameState.NOT_STARTED;
     /** Player to move next. */
     protected PlayerType currentPlayer = PlayerType.X;
+    /** Metrics this game reports to. */
+    protected final GameMetrics metrics = Metrics.current();
+    /** Cell indices {@code row * size + col} of the moves played, in order; grown on demand. */
+    private int[] moves = new int[TicTacToeBoard.SIZE * TicTacToeBoard.SIZE];
+    /** Number of moves played. */
+    private int moveCount;
+    /** Number of valid entries in {@link #moves}; those past {@link #moveCount} can be redone. */
+    private int historyLength;
+    /** Snapshots of the positions after {@code i} moves, shared between calls to {@link #snapshot()}. */
+    private GameSnapshot[] snapshots = new GameSnapshot[moves.length + 1];
+    /** Number of leading entries of {@link #snapshots} that match the current history. */
+    private int validSnapshots;
+    /** Feed of the spectators; {@code null} until requested. */
+    private SpectatorFeed spectatorFeed;
 
     /**
      * Creates a game with default player names ("Player X" and "Player O").
@@ -36,7 +69,20 @@ public class TicTacToeGame {
      * @param playerO name of the O player
      */
     public TicTacToeGame(String playerX, String playerO) {
-        this.board = new TicTacToeBoard();
+        this(playerX, playerO, TicTacToeBoard.SIZE, TicTacToeBoard.SIZE);
+    }
+
+    /**
+     * Creates a game with custom player names on a board of the given geometry.
+     *
+     * @param playerX   name of the X player
+     * @param playerO   name of the O player
+     * @param size      side length of the board
+     * @param winLength number of marks in a row required to win
+     * @throws IllegalArgumentException if the size is out of range or the win length is not in range 1..size
+     */
+    public TicTacToeGame(String playerX, String playerO, int size, int winLength) {
+        this.board = new TicTacToeBoard(size, winLength);
         this.players = Map.of(
                 GameState.O_WINS, playerO,
                 GameState.X_WINS, playerX
@@ -79,6 +125,25 @@ public class TicTacToeGame {
         return gameState == GameState.IN_PROGRESS ? players.get(currentPlayer.getAnalog()) : null;
     }
 
+    /**
+     * Returns the number of moves played so far.
+     *
+     * @return move count
+     */
+    public final int getMoveCount() {
+        return moveCount;
+    }
+
+    /**
+     * Returns the moves played so far as cell indices {@code row * size + col}, in the order they were played.
+     * Even indices are X's moves, odd indices O's.
+     *
+     * @return a new array with one entry per move
+     */
+    public final int[] getMoveHistory() {
+        return Arrays.copyOf(moves, moveCount);
+    }
+
     /**
      * Returns the result label if the game is finished.
      *
@@ -103,10 +168,12 @@ public class TicTacToeGame {
             throw new FalseStateException("Game has already started or finished");
         }
         gameState = GameState.IN_PROGRESS;
+        this.publish();
     }
 
     /**
      * Performs a move for the current player at the given coordinates and advances the game state.
+     * A thin wrapper around {@link #tryMove(int, int)} that reports rejected moves as exceptions.
      *
      * @param row zero-based row index
      * @param col zero-based column index
@@ -116,14 +183,193 @@ public class TicTacToeGame {
      * @throws org.example.tictactoe.exceptions.CellOccupiedException if the target cell is already occupied
      */
     public GameState move(int row, int col) {
+        MoveStatus status = this.tryMove(row, col);
+        if (status != MoveStatus.ACCEPTED) {
+            throw status.toException(row, col);
+        }
+        return gameState;
+    }
+
+    /**
+     * Performs a move for the current player if it is valid, reporting an invalid move by its status
+     * instead of an exception, so untrusted input can be validated without allocating.
+     * Subclasses that react to moves override this method; {@link #move(int, int)} delegates to it.
+     *
+     * @param row zero-based row index
+     * @param col zero-based column index
+     * @return {@link MoveStatus#ACCEPTED} if the move was played, with the new state available from
+     *         {@link #getGameState()}; otherwise the reason the game is unchanged
+     */
+    public MoveStatus tryMove(int row, int col) {
+        if (!metrics.isEnabled()) {
+            return this.applyMove(row, col);
+        }
+        long start = System.nanoTime();
+        MoveStatus status = this.applyMove(row, col);
+        if (status == MoveStatus.ACCEPTED) {
+            metrics.moveApplied(System.nanoTime() - start);
+        }
+        return status;
+    }
+
+    private MoveStatus applyMove(int row, int col) {
         if (gameState == GameState.NOT_STARTED) {
-            throw new FalseStateException("Game is not started");
+            return MoveStatus.NOT_STARTED;
         } else if (gameState != GameState.IN_PROGRESS) {
-            throw new FalseStateException("Game is already over");
+            return MoveStatus.GAME_OVER;
+        }
+
+        MoveStatus status = board.tryMove(row, col, currentPlayer);
+        if (status != MoveStatus.ACCEPTED) {
+            return status;
+        }
+        if (moveCount == moves.length) {
+            moves = Arrays.copyOf(moves, moves.length * 2);
+        }
+        int cell = row * board.getSize() + col;
+        if (moves[moveCount] != cell) {
+            validSnapshots = Math.min(validSnapshots, moveCount + 1);
+        }
+        moves[moveCount++] = cell;
+        historyLength = moveCount;
+        this.updateState();
+        this.publish();
+        return MoveStatus.ACCEPTED;
+    }
+
+    /**
+     * Checks whether there is a move to take back.
+     *
+     * @return true if at least one move has been played
+     */
+    public final boolean canUndo() {
+        return moveCount > 0;
+    }
+
+    /**
+     * Checks whether there is an undone move to play again.
+     *
+     * @return true if {@link #redo()} would succeed
+     */
+    public final boolean canRedo() {
+        return historyLength > moveCount;
+    }
+
+    /**
+     * Takes back the last move, making its player the one to move again.
+     * A finished game is back in progress afterwards.
+     *
+     * @return {@link GameState#IN_PROGRESS}
+     * @throws FalseStateException if no move has been played
+     */
+    public GameState undo() {
+        if (moveCount == 0) {
+            throw new FalseStateException("No move to undo");
+        }
+        board.remove(moves[--moveCount]);
+        currentPlayer = (moveCount & 1) == 0 ? PlayerType.X : PlayerType.O;
+        gameState = GameState.IN_PROGRESS;
+        this.publish();
+        return gameState;
+    }
+
+    /**
+     * Plays the last undone move again.
+     *
+     * @return resulting {@link GameState} after the move
+     * @throws FalseStateException if there is no undone move
+     */
+    public GameState redo() {
+        if (historyLength == moveCount) {
+            throw new FalseStateException("No move to redo");
+        }
+        board.place(moves[moveCount++], currentPlayer);
+        GameState state = this.updateState();
+        this.publish();
+        return state;
+    }
+
+    /**
+     * Returns an immutable snapshot of the current position. Repeated calls share all snapshot
+     * nodes of the common history, so creating snapshots along a game costs one small object per move.
+     *
+     * @return snapshot of the game
+     */
+    public final GameSnapshot snapshot() {
+        if (gameState == GameState.NOT_STARTED) {
+            return GameSnapshot.notStarted(board.getSize(), board.getWinLength());
+        }
+        if (snapshots.length <= moveCount) {
+            snapshots = Arrays.copyOf(snapshots, Math.max(snapshots.length * 2, moveCount + 1));
+        }
+        if (validSnapshots == 0) {
+            snapshots[0] = GameSnapshot.start(board.getSize(), board.getWinLength());
+            validSnapshots = 1;
         }
+        // the game has already validated the moves, and only the last one can have ended it
+        for (; validSnapshots <= moveCount; validSnapshots++) {
+            GameState state = validSnapshots == moveCount ? gameState : GameState.IN_PROGRESS;
+            snapshots[validSnapshots] = snapshots[validSnapshots - 1].append(moves[validSnapshots - 1], state);
+        }
+        return snapshots[moveCount];
+    }
+
+    /**
+     * Returns the feed of this game's spectators, creating it with the default buffer size and delivering
+     * on the common fork-join pool if there is none yet. A new feed starts with the current position.
+     *
+     * @return spectator feed
+     */
+    public final SpectatorFeed spectators() {
+        if (spectatorFeed == null) {
+            return this.spectators(ForkJoinPool.commonPool(), SpectatorFeed.DEFAULT_BUFFER_SIZE);
+        }
+        return spectatorFeed;
+    }
+
+    /**
+     * Creates the feed of this game's spectators. A new feed starts with the current position.
+     *
+     * @param executor   runs the deliveries to the spectators
+     * @param bufferSize number of recent events kept for spectators that fall behind, at least 1
+     * @return spectator feed
+     * @throws FalseStateException      if the feed already exists
+     * @throws IllegalArgumentException if the buffer size is below 1
+     */
+    public final SpectatorFeed spectators(Executor executor, int bufferSize) {
+        if (spectatorFeed != null) {
+            throw new FalseStateException("Spectator feed already exists");
+        }
+        spectatorFeed = new SpectatorFeed(executor, bufferSize);
+        this.publish();
+        return spectatorFeed;
+    }
+
+    /**
+     * Reports a move chosen by an AI to the metrics and as an {@link AiSearchEvent}.
+     *
+     * @param engine      short name of the AI
+     * @param startNanos  {@link System#nanoTime()} value taken before the search
+     * @param nodes       positions (or playouts) examined
+     * @param cacheProbes transposition table lookups
+     * @param cacheHits   lookups that returned a usable score
+     */
+    protected final void recordDecision(String engine, long startNanos, long nodes, long cacheProbes, long cacheHits) {
+        long nanos = System.nanoTime() - startNanos;
+        metrics.aiDecision(engine, nanos, nodes, cacheProbes, cacheHits);
+        AiSearchEvent.emit(engine, board.getSize(), board.getWinLength(), moveCount, nanos, nodes, cacheProbes, cacheHits);
+    }
+
+    /** Sends the current position to the spectators, if anyone asked for them. */
+    private void publish() {
+        if (spectatorFeed != null) {
+            spectatorFeed.publish(this.snapshot());
+        }
+    }
 
-        board.move(row, col, currentPlayer);
-        if (board.checkWin(row, col, currentPlayer)) {
+    /** Ends the game if the last move won or filled the board, otherwise passes the turn. */
+    private GameState updateState() {
+        if (board.hasWon(currentPlayer)) {
             gameState = GameState.checkState(currentPlayer);
             return gameState;
         } else if (board.checkDraw()) {
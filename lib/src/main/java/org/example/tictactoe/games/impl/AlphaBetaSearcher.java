@@ -0,0 +1,328 @@
+package org.example.tictactoe.games.impl;
+
+import org.example.tictactoe.boards.TicTacToeBoard;
+import org.example.tictactoe.cache.TranspositionTable;
+import org.example.tictactoe.enums.PlayerType;
+import org.example.tictactoe.enums.ScoreBound;
+import org.example.tictactoe.utils.SearchBudget;
+
+import java.util.Arrays;
+
+/**
+ * Single-threaded alpha-beta minimax search over a working board.
+ * <p>
+ * Holds the per-search state (history heuristic counters, visited node count and budget), so one
+ * instance must not be used by several threads at once; parallel searches give every task
+ * its own searcher while sharing the thread-safe {@link TranspositionTable}.
+ * <p>
+ * The recursion allocates nothing per node: moves are packed cell indices, every node's
+ * candidates live in a slice of one reusable move stack, and moves are made and unmade in place
+ * with {@link TicTacToeBoard#place(int, PlayerType)} and {@link TicTacToeBoard#remove(int)}.
+ * <p>
+ * Decided positions score {@link #WIN_SCORE} (O wins) or {@code -WIN_SCORE} (X wins); positions at the
+ * depth horizon are scored by a {@link HeuristicEvaluator}, whose scores always lie strictly between.
+ */
+final class AlphaBetaSearcher {
+
+    /** Score of a position won by O; a position won by X scores its negation. */
+    static final int WIN_SCORE = 10_000;
+
+    /** Bound larger than any score, used to open a full search window. */
+    static final int INFINITY = WIN_SCORE + 1;
+
+    /** Hash component distinguishing positions where X is to move from those where O is. */
+    static final long X_TO_MOVE_KEY = 0x9E3779B97F4A7C15L;
+
+    /** Number of visited nodes between two clock reads. */
+    private static final int CLOCK_CHECK_INTERVAL = 1024;
+
+    /** Upper limit of the initial move stack length; deeper searches grow the stack once. */
+    private static final int MAX_INITIAL_STACK = 1 << 14;
+
+    /** Cache of scores of searched positions. */
+    private final TranspositionTable transpositionTable;
+
+    /** Scores positions at the depth horizon. */
+    private final HeuristicEvaluator evaluator;
+
+    /** Cutoff counts per cell, used to order moves. */
+    private final int[] history;
+
+    /** Candidate moves of all nodes on the current search path, one slice per node. */
+    private int[] moveStack;
+
+    /** First free slot of {@link #moveStack}. */
+    private int stackTop;
+
+    /** Positions visited so far. */
+    private long nodes;
+
+    /** Transposition table lookups so far. */
+    private long cacheProbes;
+
+    /** Transposition table lookups that returned a usable score. */
+    private long cacheHits;
+
+    /** Best move found by the last {@link #searchRoot(TicTacToeBoard, PlayerType, int)}. */
+    private int rootBestMove = -1;
+
+    /** Node count at which the search is abandoned. */
+    private long nodeLimit = Long.MAX_VALUE;
+
+    /** {@link System#nanoTime()} value at which the search is abandoned. */
+    private long deadline;
+
+    /** Whether the time limit is enforced. */
+    private boolean timeLimited;
+
+    /** Set once a limit has been hit; every score returned afterwards is meaningless. */
+    private boolean aborted;
+
+    /**
+     * Creates a searcher for boards with the given number of cells.
+     *
+     * @param transpositionTable cache of searched positions
+     * @param cells              number of cells of the searched boards
+     */
+    AlphaBetaSearcher(TranspositionTable transpositionTable, int cells) {
+        this(transpositionTable, cells, HeuristicEvaluator.DEFAULT);
+    }
+
+    /**
+     * Creates a searcher for boards with the given number of cells, scoring the depth horizon with the given heuristic.
+     *
+     * @param transpositionTable cache of searched positions
+     * @param cells              number of cells of the searched boards
+     * @param evaluator          heuristic for positions at the depth horizon
+     */
+    AlphaBetaSearcher(TranspositionTable transpositionTable, int cells, HeuristicEvaluator evaluator) {
+        this.transpositionTable = transpositionTable;
+        this.evaluator = evaluator;
+        this.history = new int[cells];
+        this.moveStack = new int[Math.min(cells * (cells + 1) / 2, MAX_INITIAL_STACK)];
+    }
+
+    /**
+     * Returns the cache key of a position, taking the side to move into account.
+     *
+     * @param board  position to key
+     * @param toMove player to move
+     * @return symmetry-independent position key
+     */
+    static long key(TicTacToeBoard board, PlayerType toMove) {
+        return board.canonicalHash() ^ (toMove == PlayerType.X ? X_TO_MOVE_KEY : 0L);
+    }
+
+    /**
+     * Forgets the cutoff counts of earlier searches, so that the move ordering of the next search,
+     * and with it the choice between equally good moves, depends only on the searched position.
+     */
+    void resetHistory() {
+        Arrays.fill(history, 0);
+    }
+
+    /**
+     * Starts enforcing the given budget, counting from now and from the nodes visited so far.
+     *
+     * @param budget limits on time and visited positions
+     */
+    void startBudget(SearchBudget budget) {
+        nodeLimit = budget.nodeLimit() == Long.MAX_VALUE ? Long.MAX_VALUE : nodes + budget.nodeLimit();
+        timeLimited = budget.timeLimitNanos() != Long.MAX_VALUE;
+        deadline = System.nanoTime() + budget.timeLimitNanos();
+        aborted = false;
+    }
+
+    /**
+     * Checks whether the budget ran out during the last search.
+     *
+     * @return true if the last result must be discarded
+     */
+    boolean isAborted() {
+        return aborted;
+    }
+
+    /**
+     * Returns the number of positions visited by this searcher,
+     * including positions answered from the transposition table.
+     *
+     * @return node count
+     */
+    long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Returns the number of transposition table lookups made by this searcher.
+     *
+     * @return probe count
+     */
+    long getCacheProbes() {
+        return cacheProbes;
+    }
+
+    /**
+     * Returns the number of transposition table lookups that returned a usable score.
+     *
+     * @return hit count
+     */
+    long getCacheHits() {
+        return cacheHits;
+    }
+
+    /**
+     * Minimax evaluation with alpha-beta pruning, scoring positions at the depth horizon heuristically.
+     *
+     * @param board    working board (mutated and reverted during search)
+     * @param isMax    which player's turn is evaluating: {@link PlayerType#O} for maximizing, {@link PlayerType#X} for minimizing
+     * @param lastMove cell index of the last played move to evaluate terminal states quickly
+     * @param depth    remaining plies to search; at least the number of empty cells for an exact result
+     * @param alpha    score the maximizing player is already guaranteed
+     * @param beta     score the minimizing player is already guaranteed
+     * @return exact score if it lies inside {@code (alpha, beta)}, otherwise a bound on the side of the window it fell
+     */
+    int search(TicTacToeBoard board, PlayerType isMax, int lastMove, int depth, int alpha, int beta) {
+        if (++nodes >= nodeLimit
+                || timeLimited && nodes % CLOCK_CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0) {
+            aborted = true;
+        }
+        if (aborted) {
+            return 0;
+        }
+        PlayerType lastPlayer = isMax.getOpponent();
+        if (board.checkWin(lastMove, lastPlayer)) {
+            return lastPlayer == PlayerType.O ? WIN_SCORE : -WIN_SCORE;
+        } else if (board.checkDraw()) {
+            return 0;
+        } else if (depth <= 0) {
+            return evaluator.evaluate(board);
+        }
+
+        long key = key(board, isMax) ^ evaluator.getKeySalt();
+        int cachedScore = transpositionTable.probe(key, depth, alpha, beta);
+        cacheProbes++;
+        if (cachedScore != TranspositionTable.MISS) {
+            cacheHits++;
+            return cachedScore;
+        }
+
+        int originalAlpha = alpha;
+        int originalBeta = beta;
+        int bestScore = isMax == PlayerType.O ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        int from = stackTop;
+        int to = this.pushMoves(board);
+        for (int i = from; i < to; i++) {
+            int cell = moveStack[i];
+            board.place(cell, isMax);
+            int currentScore = this.search(board, lastPlayer, cell, depth - 1, alpha, beta);
+            board.remove(cell);
+            if (aborted) {
+                stackTop = from;
+                return 0;
+            }
+
+            if (isMax == PlayerType.O) {
+                bestScore = Math.max(bestScore, currentScore);
+                alpha = Math.max(alpha, bestScore);
+            } else {
+                bestScore = Math.min(bestScore, currentScore);
+                beta = Math.min(beta, bestScore);
+            }
+            if (alpha >= beta) {
+                history[cell] += depth * depth;
+                break;
+            }
+        }
+        stackTop = from;
+
+        ScoreBound bound = bestScore <= originalAlpha ? ScoreBound.UPPER
+                : bestScore >= originalBeta ? ScoreBound.LOWER
+                : ScoreBound.EXACT;
+        transpositionTable.store(key, depth, bestScore, bound);
+        return bestScore;
+    }
+
+    /**
+     * Searches every move of the side to move and remembers the best one, without allocating.
+     * The position must not be decided yet.
+     *
+     * @param board  working board (mutated and reverted during search)
+     * @param toMove player to move
+     * @param depth  plies to search including the root move; at least the number of empty cells for an exact result
+     * @return exact score of the position, positive if it favours O
+     */
+    int searchRoot(TicTacToeBoard board, PlayerType toMove, int depth) {
+        int from = stackTop;
+        int to = this.pushMoves(board);
+        int bestScore = -INFINITY;
+        int bestMove = -1;
+        for (int i = from; i < to; i++) {
+            int cell = moveStack[i];
+            board.place(cell, toMove);
+            int score = toMove == PlayerType.O
+                    ? this.search(board, PlayerType.X, cell, depth - 1, bestScore, INFINITY)
+                    : -this.search(board, PlayerType.O, cell, depth - 1, -INFINITY, -bestScore);
+            board.remove(cell);
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = cell;
+            }
+        }
+        stackTop = from;
+        rootBestMove = bestMove;
+        return toMove == PlayerType.O ? bestScore : -bestScore;
+    }
+
+    /**
+     * Returns the best move found by the last {@link #searchRoot(TicTacToeBoard, PlayerType, int)}.
+     *
+     * @return cell index, or -1 if the position had no moves
+     */
+    int getRootBestMove() {
+        return rootBestMove;
+    }
+
+    /**
+     * Lists the empty cells of the board, best candidates first: cells with more
+     * recorded cutoffs come first, ties are broken by the board's static ordering
+     * (center, then corners, then edges on a 3x3 board).
+     *
+     * @param board position to generate moves for
+     * @return empty cell indices in search order
+     */
+    int[] orderedMoves(TicTacToeBoard board) {
+        int from = stackTop;
+        int[] moves = Arrays.copyOfRange(moveStack, from, this.pushMoves(board));
+        stackTop = from;
+        return moves;
+    }
+
+    /**
+     * Pushes the empty cells of the board onto the move stack in {@link #orderedMoves(TicTacToeBoard) search order}.
+     *
+     * @param board position to generate moves for
+     * @return new top of the stack; the moves occupy the slots from the previous top up to it
+     */
+    private int pushMoves(TicTacToeBoard board) {
+        int from = stackTop;
+        int to = from + board.countEmptyCells();
+        if (to > moveStack.length) {
+            moveStack = Arrays.copyOf(moveStack, Math.max(to, moveStack.length * 2));
+        }
+        int cells = board.getSize() * board.getSize();
+        int count = from;
+        for (int rank = 0; rank < cells; rank++) {
+            int cell = board.getOrderedCell(rank);
+            if (board.isEmpty(cell)) {
+                int index = count++;
+                while (index > from && history[moveStack[index - 1]] < history[cell]) {
+                    moveStack[index] = moveStack[index - 1];
+                    index--;
+                }
+                moveStack[index] = cell;
+            }
+        }
+        stackTop = to;
+        return to;
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.tictactoe.games.impl;
+
+import org.example.tictactoe.boards.TicTacToeBoard;
+import org.example.tictactoe.enums.PlayerType;
+
+import java.util.Arrays;
+
+/**
+ * Static evaluation of non-terminal positions for depth-limited search.
+ * <p>
+ * Every window of {@code winLength} consecutive cells (in any of the four directions) that
+ * holds marks of only one player is still winnable by that player; it contributes the weight of
+ * its mark count to that player's score, so open twos, open threes and immediate threats
+ * ({@code winLength - 1} marks) can be valued independently. The result is O's total minus X's total,
+ * clamped so that it never reaches a decided game's score.
+ * <p>
+ * The board keeps the number of open lines per player and mark count up to date on every move
+ * ({@link TicTacToeBoard#countOpenLines(PlayerType, int)}), so an evaluation costs
+ * {@code winLength} lookups regardless of the board area.
+ * <p>
+ * Horizon scores end up in the transposition table, so searches salt their cache keys with
+ * {@link #getKeySalt()}: games with different weights can share a table without reading each other's scores.
+ */
+final class HeuristicEvaluator {
+
+    /** Mark counts covered by the default weights; longer lines saturate at the last weight. */
+    private static final int DEFAULT_WEIGHTS = 64;
+
+    /** Hash of the default weights, which map to a salt of 0. */
+    private static final long DEFAULT_HASH = hash(defaultWeights());
+
+    /** Weighs a line by the square of its mark count. */
+    static final HeuristicEvaluator DEFAULT = new HeuristicEvaluator(defaultWeights());
+
+    /** Value of an open line, indexed by its mark count minus one. */
+    private final int[] weights;
+
+    /** Mixed into the cache keys of searches using this evaluator. */
+    private final long keySalt;
+
+    /**
+     * Creates an evaluator with the given weights.
+     *
+     * @param weights {@code weights[i]} is the value of an open line holding {@code i + 1} marks;
+     *                lines with more marks use the last weight
+     * @throws IllegalArgumentException if no weight is given or a weight is negative
+     */
+    HeuristicEvaluator(int[] weights) {
+        if (weights.length == 0) {
+            throw new IllegalArgumentException("At least one weight is required");
+        }
+        for (int weight : weights) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weights must not be negative: " + Arrays.toString(weights));
+            }
+        }
+        this.weights = weights.clone();
+        this.keySalt = hash(this.weights) ^ DEFAULT_HASH;
+    }
+
+    /**
+     * Returns the value mixed into the cache keys of positions searched with this evaluator;
+     * 0 for the default weights, so such searches share cached scores with searches of other games.
+     *
+     * @return key salt
+     */
+    long getKeySalt() {
+        return keySalt;
+    }
+
+    /**
+     * Scores a position from O's point of view.
+     *
+     * @param board position to evaluate
+     * @return heuristic score strictly between {@code -AlphaBetaSearcher.WIN_SCORE} and {@code WIN_SCORE}
+     */
+    int evaluate(TicTacToeBoard board) {
+        long score = 0;
+        for (int marks = 1; marks < board.getWinLength(); marks++) {
+            int weight = weights[Math.min(marks, weights.length) - 1];
+            score += (long) weight * (board.countOpenLines(PlayerType.O, marks) - board.countOpenLines(PlayerType.X, marks));
+        }
+        int limit = AlphaBetaSearcher.WIN_SCORE - 1;
+        return (int) Math.max(-limit, Math.min(limit, score));
+    }
+
+    /** 64-bit hash of the weights, with the bits of every weight spread over the whole value. */
+    private static long hash(int[] weights) {
+        long hash = weights.length;
+        for (int weight : weights) {
+            hash = (hash ^ weight) * 0x9E3779B97F4A7C15L;
+            hash ^= hash >>> 32;
+        }
+        return hash;
+    }
+
+    private static int[] defaultWeights() {
+        int[] weights = new int[DEFAULT_WEIGHTS];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = (i + 1) * (i + 1);
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,240 @@
+package org.example.tictactoe.games.impl;
+
+import org.example.tictactoe.enums.GameState;
+import org.example.tictactoe.enums.MoveStatus;
+import org.example.tictactoe.games.AiMove;
+import org.example.tictactoe.games.TicTacToeGame;
+import org.example.tictactoe.utils.Point;
+import org.example.tictactoe.utils.SearchBudget;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Monte Carlo tree search AI (UCT) for boards too large for an exhaustive search.
+ * <p>
+ * Every iteration walks down the tree choosing children by their upper confidence bound,
+ * expands one new move near the existing marks (only an immediate win or the blocks of an immediate
+ * loss when there are such), finishes the game with uniformly random moves
+ * and credits the result to the walked path. The move with the most playouts is played.
+ * The cost of a move is bounded by an iteration count ({@link #setIterations(int)}) or by the
+ * {@link SearchBudget} passed to {@link #makeMove(SearchBudget)}, independently of the board size.
+ * <p>
+ * The tree is kept between moves of the same game: every move played through {@link #move(int, int)},
+ * by either side, advances the root to the corresponding child, so the playouts already spent on
+ * the position that actually arose are reused.
+ * <p>
+ * With a {@link #setParallelism(int) parallelism} above one, the iterations are split between
+ * workers that grow independent trees over the same position on the {@link #setSearchPool(ForkJoinPool)
+ * search pool} (root parallelization); their root statistics are added up before choosing the move.
+ */
+public class MctsAiTicTacToeGame extends TicTacToeGame implements AiMove {
+
+    /** Default number of playouts per move. */
+    public static final int DEFAULT_ITERATIONS = 10_000;
+
+    /** Default weight of the UCT exploration term, the theoretical {@code sqrt(2)}. */
+    public static final double DEFAULT_EXPLORATION = Math.sqrt(2);
+
+    /** Name reported to the metrics. */
+    private static final String ENGINE = "mcts";
+
+    /** Source from which every worker's random generator is split. */
+    private final SplittableRandom random = new SplittableRandom();
+
+    /** Workers, one per thread, each owning its reusable tree. */
+    private MctsSearcher[] searchers = {new MctsSearcher(random.split())};
+
+    /** Pool running the workers of a parallel search. */
+    private ForkJoinPool searchPool = ForkJoinPool.commonPool();
+
+    /** Playouts per move of {@link #makeMove()}. */
+    private int iterations = DEFAULT_ITERATIONS;
+
+    /** Weight of the UCT exploration term. */
+    private double exploration = DEFAULT_EXPLORATION;
+
+    /** Playouts through the root after the last search, summed over the workers. */
+    private long lastRootVisits;
+
+    /** Creates an MCTS AI game with default player names. */
+    public MctsAiTicTacToeGame() {
+        super();
+    }
+
+    /**
+     * Creates an MCTS AI game with custom player names.
+     *
+     * @param playerX name of the X player
+     * @param playerO name of the O player
+     */
+    public MctsAiTicTacToeGame(String playerX, String playerO) {
+        super(playerX, playerO);
+    }
+
+    /**
+     * Creates an MCTS AI game with custom player names on a board of the given geometry.
+     *
+     * @param playerX   name of the X player
+     * @param playerO   name of the O player
+     * @param size      side length of the board
+     * @param winLength number of marks in a row required to win
+     */
+    public MctsAiTicTacToeGame(String playerX, String playerO, int size, int winLength) {
+        super(playerX, playerO, size, winLength);
+    }
+
+    /**
+     * Sets the number of playouts spent on a move by {@link #makeMove()}.
+     *
+     * @param iterations playouts per move
+     * @throws IllegalArgumentException if the count is not positive
+     */
+    public void setIterations(int iterations) {
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("Iterations must be positive: " + iterations);
+        }
+        this.iterations = iterations;
+    }
+
+    /**
+     * Sets the weight of the exploration term of the UCT formula;
+     * higher values spread the playouts more evenly across moves.
+     *
+     * @param exploration non-negative exploration weight
+     * @throws IllegalArgumentException if the weight is negative or not a number
+     */
+    public void setExploration(double exploration) {
+        if (!(exploration >= 0)) {
+            throw new IllegalArgumentException("Exploration must not be negative: " + exploration);
+        }
+        this.exploration = exploration;
+    }
+
+    /**
+     * Sets the number of workers searching in parallel. Changing it drops the reused trees.
+     *
+     * @param parallelism number of workers, each growing its own tree; 1 searches on the calling thread
+     * @throws IllegalArgumentException if the level is not positive
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        if (parallelism != searchers.length) {
+            searchers = new MctsSearcher[parallelism];
+            for (int i = 0; i < parallelism; i++) {
+                searchers[i] = new MctsSearcher(random.split());
+            }
+        }
+    }
+
+    /**
+     * Sets the pool the workers of a parallel search run on, {@link ForkJoinPool#commonPool()} by default.
+     * The pool is owned by the caller, which decides its width and shuts it down.
+     *
+     * @param searchPool pool running the workers
+     * @throws IllegalArgumentException if the pool is {@code null}
+     */
+    public void setSearchPool(ForkJoinPool searchPool) {
+        if (searchPool == null) {
+            throw new IllegalArgumentException("Search pool must not be null");
+        }
+        this.searchPool = searchPool;
+    }
+
+    /**
+     * Returns the number of playouts through the root after the last search, summed over the workers.
+     * This includes playouts inherited from earlier searches through tree reuse.
+     *
+     * @return root visit count of the last search
+     */
+    public long getLastRootVisits() {
+        return lastRootVisits;
+    }
+
+    /**
+     * Performs the move and, if it was played, advances the search trees to the resulting position.
+     *
+     * @param row zero-based row index
+     * @param col zero-based column index
+     * @return {@link MoveStatus#ACCEPTED} if the move was played, otherwise the reason the game is unchanged
+     */
+    @Override
+    public MoveStatus tryMove(int row, int col) {
+        MoveStatus status = super.tryMove(row, col);
+        if (status == MoveStatus.ACCEPTED) {
+            for (MctsSearcher searcher : searchers) {
+                searcher.advance(row * board.getSize() + col, board);
+            }
+        }
+        return status;
+    }
+
+    /**
+     * Computes the next move for the player to move with the configured number of playouts.
+     *
+     * @return coordinates of the most visited move as a {@link Point}, or {@code null} if the game is over
+     */
+    @Override
+    public Point makeMove() {
+        return this.search(iterations, Long.MAX_VALUE);
+    }
+
+    /**
+     * Computes the next move within the budget, counting one playout as one visited position.
+     * A budget without any limit falls back to the configured number of playouts.
+     *
+     * @param budget limits on time and playouts
+     * @return coordinates of the most visited move as a {@link Point}, or {@code null} if the game is over
+     */
+    @Override
+    public Point makeMove(SearchBudget budget) {
+        if (budget.timeLimitNanos() == Long.MAX_VALUE && budget.nodeLimit() == Long.MAX_VALUE) {
+            return this.makeMove();
+        }
+        return this.search(budget.nodeLimit(), budget.timeLimitNanos());
+    }
+
+    private Point search(long totalIterations, long timeLimitNanos) {
+        if (gameState != GameState.IN_PROGRESS) {
+            return null;
+        }
+        long start = System.nanoTime();
+        int workers = searchers.length;
+        MctsNode[] roots = new MctsNode[workers];
+        if (workers == 1) {
+            roots[0] = searchers[0].search(board, currentPlayer, totalIterations, timeLimitNanos, exploration);
+        } else {
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            ForkJoinTask<MctsNode>[] tasks = new ForkJoinTask[workers];
+            for (int i = 0; i < workers; i++) {
+                MctsSearcher searcher = searchers[i];
+                long share = totalIterations / workers + (i < totalIterations % workers ? 1 : 0);
+                tasks[i] = searchPool.submit(() -> searcher.search(board, currentPlayer, share, timeLimitNanos, exploration));
+            }
+            for (int i = 0; i < workers; i++) {
+                roots[i] = tasks[i].join();
+            }
+        }
+
+        long[] visitsByCell = new long[board.getSize() * board.getSize()];
+        lastRootVisits = 0;
+        for (MctsNode root : roots) {
+            lastRootVisits += root.visits;
+            for (int i = 0; i < root.childCount(); i++) {
+                MctsNode child = root.childAt(i);
+                visitsByCell[child.move] += child.visits;
+            }
+        }
+        int bestMove = MctsNode.NO_MOVE;
+        for (int cell = 0; cell < visitsByCell.length; cell++) {
+            if (visitsByCell[cell] > 0 && (bestMove == MctsNode.NO_MOVE || visitsByCell[cell] > visitsByCell[bestMove])) {
+                bestMove = cell;
+            }
+        }
+        this.recordDecision(ENGINE, start, lastRootVisits, 0, 0);
+        return bestMove == MctsNode.NO_MOVE ? null : new Point(bestMove / board.getSize(), bestMove % board.getSize());
+    }
+}
@@ -0,0 +1,206 @@
+package org.example.tictactoe.games.impl;
+
+import org.example.tictactoe.boards.TicTacToeBoard;
+import org.example.tictactoe.enums.PlayerType;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Node of a Monte Carlo search tree, standing for the position reached by {@link #move}.
+ * <p>
+ * Statistics are kept from the point of view of {@link #mover}, the player who made the move,
+ * so a parent picks the child with the best win rate for itself. Nodes are confined to the
+ * {@link MctsSearcher} that owns the tree and are not thread-safe.
+ */
+final class MctsNode {
+
+    /** Move value of a root node, which is not reached by any move. */
+    static final int NO_MOVE = -1;
+
+    /** Chebyshev distance from existing marks within which cells are expanded. */
+    private static final int NEIGHBORHOOD = 2;
+
+    /** Cell index of the move leading to this node, or {@link #NO_MOVE}. */
+    final int move;
+
+    /** Player who made {@link #move}; for a root, the player who moved last. */
+    final PlayerType mover;
+
+    /** Whether the game is over in this position. */
+    final boolean terminal;
+
+    /** Whether {@link #mover} won with this move. */
+    final boolean winning;
+
+    /** Expanded children; the first {@link #childCount} entries are used. */
+    private MctsNode[] children;
+
+    private int childCount;
+
+    /** Cells not expanded yet; {@code null} until the node is first expanded. */
+    private int[] untried;
+
+    private int untriedCount;
+
+    /** Number of playouts through this node. */
+    int visits;
+
+    /** Sum of playout results for {@link #mover}: 1 per win, 0.5 per draw. */
+    double wins;
+
+    /**
+     * Creates a node for the position on the board, which already contains the move.
+     *
+     * @param board position of the node
+     * @param move  cell index of the move leading here, or {@link #NO_MOVE} for a root
+     * @param mover player who made the move, or who moved last for a root
+     */
+    MctsNode(TicTacToeBoard board, int move, PlayerType mover) {
+        this.move = move;
+        this.mover = mover;
+        this.winning = move != NO_MOVE && board.checkWin(move, mover);
+        this.terminal = winning || board.checkDraw();
+    }
+
+    /**
+     * Checks whether every candidate move of this position already has a child.
+     *
+     * @return true once no untried moves are left
+     */
+    boolean isFullyExpanded() {
+        return untried != null && untriedCount == 0;
+    }
+
+    /**
+     * Adds a child for a random untried move and plays that move on the board.
+     *
+     * @param board  position of this node; the move is placed on it
+     * @param random source of the move choice
+     * @return new child node
+     */
+    MctsNode expand(TicTacToeBoard board, SplittableRandom random) {
+        if (untried == null) {
+            untried = candidates(board, mover.getOpponent());
+            untriedCount = untried.length;
+            children = new MctsNode[untried.length];
+        }
+        int index = random.nextInt(untriedCount);
+        int cell = untried[index];
+        untried[index] = untried[--untriedCount];
+        PlayerType player = mover.getOpponent();
+        board.place(cell, player);
+        var child = new MctsNode(board, cell, player);
+        children[childCount++] = child;
+        return child;
+    }
+
+    /**
+     * Returns the child with the highest UCT value.
+     *
+     * @param exploration weight of the exploration term
+     * @return selected child; the node must have at least one child
+     */
+    MctsNode select(double exploration) {
+        double logVisits = Math.log(visits);
+        MctsNode best = null;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < childCount; i++) {
+            MctsNode child = children[i];
+            double value = child.wins / child.visits + exploration * Math.sqrt(logVisits / child.visits);
+            if (value > bestValue) {
+                bestValue = value;
+                best = child;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the expanded child reached by the given move.
+     *
+     * @param cell cell index of the move
+     * @return the child, or {@code null} if the move has not been expanded
+     */
+    MctsNode child(int cell) {
+        for (int i = 0; i < childCount; i++) {
+            if (children[i].move == cell) {
+                return children[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of expanded children.
+     *
+     * @return child count
+     */
+    int childCount() {
+        return childCount;
+    }
+
+    /**
+     * Returns an expanded child by index.
+     *
+     * @param index index below {@link #childCount()}
+     * @return the child
+     */
+    MctsNode childAt(int index) {
+        return children[index];
+    }
+
+    /**
+     * Lists the cells worth expanding: empty cells near existing marks, or the center of an empty board.
+     * Restricting the candidates keeps the branching factor of large boards manageable
+     * without losing any move on boards where every cell is close to a mark.
+     * A move winning on the spot is the only candidate; otherwise, if the opponent threatens to win
+     * on the spot, only the cells blocking such threats are. This lets the tree see forced lines
+     * that random playouts would need many iterations to discover.
+     */
+    private static int[] candidates(TicTacToeBoard board, PlayerType toMove) {
+        int size = board.getSize();
+        int cells = size * size;
+        if (board.countEmptyCells() == cells) {
+            return new int[]{(size / 2) * size + size / 2};
+        }
+        int[] result = new int[board.countEmptyCells()];
+        int count = 0;
+        for (int cell = 0; cell < cells; cell++) {
+            if (board.isEmpty(cell) && hasNeighbor(board, cell / size, cell % size)) {
+                result[count++] = cell;
+            }
+        }
+        int blocks = 0;
+        for (int i = 0; i < count; i++) {
+            int cell = result[i];
+            if (winsAt(board, cell, toMove)) {
+                return new int[]{cell};
+            }
+            if (winsAt(board, cell, toMove.getOpponent())) {
+                result[i] = result[blocks];
+                result[blocks++] = cell;
+            }
+        }
+        return Arrays.copyOf(result, blocks > 0 ? blocks : count);
+    }
+
+    private static boolean winsAt(TicTacToeBoard board, int cell, PlayerType player) {
+        board.place(cell, player);
+        boolean wins = board.checkWin(cell, player);
+        board.remove(cell);
+        return wins;
+    }
+
+    private static boolean hasNeighbor(TicTacToeBoard board, int row, int col) {
+        int size = board.getSize();
+        for (int r = Math.max(0, row - NEIGHBORHOOD); r <= Math.min(size - 1, row + NEIGHBORHOOD); r++) {
+            for (int c = Math.max(0, col - NEIGHBORHOOD); c <= Math.min(size - 1, col + NEIGHBORHOOD); c++) {
+                if (!board.isEmpty(r * size + c)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,154 @@
+package org.example.tictactoe.games.impl;
+
+import org.example.tictactoe.boards.TicTacToeBoard;
+import org.example.tictactoe.enums.PlayerType;
+
+import java.util.SplittableRandom;
+
+/**
+ * One Monte Carlo tree search worker: owns a search tree, a working board and a random source.
+ * <p>
+ * Parallel searches run several searchers on independent trees over the same position
+ * (root parallelization) and add up their root statistics, so workers never share mutable state.
+ * The tree survives between searches and is advanced along the moves actually played,
+ * so statistics gathered for the position that arose are reused.
+ */
+final class MctsSearcher {
+
+    /** Number of iterations between two clock reads. */
+    private static final int CLOCK_CHECK_INTERVAL = 64;
+
+    private final SplittableRandom random;
+
+    /** Root of the reusable tree; {@code null} if no tree matches the game yet. */
+    private MctsNode root;
+
+    /** Hash of the position {@link #root} stands for. */
+    private long rootHash;
+
+    /** Nodes of the current selection path, from the root down. */
+    private MctsNode[] path = new MctsNode[0];
+
+    /** Empty cells of the current playout; the tail holds the cells played in it. */
+    private int[] emptyCells = new int[0];
+
+    /**
+     * Creates a searcher with the given random source.
+     *
+     * @param random source of expansion and playout choices; owned by the searcher
+     */
+    MctsSearcher(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Moves the root of the tree to the child reached by a played move, dropping the rest of the tree.
+     *
+     * @param cell  cell index of the played move
+     * @param board position after the move
+     */
+    void advance(int cell, TicTacToeBoard board) {
+        if (root != null) {
+            root = root.child(cell);
+            rootHash = board.hash();
+        }
+    }
+
+    /**
+     * Runs playouts from the position until a limit is reached.
+     *
+     * @param board          position to search; copied, not modified
+     * @param toMove         player to move in the position
+     * @param iterations     maximum number of playouts
+     * @param timeLimitNanos maximum search time; {@link Long#MAX_VALUE} for no limit
+     * @param exploration    weight of the UCT exploration term
+     * @return root of the searched tree
+     */
+    MctsNode search(TicTacToeBoard board, PlayerType toMove, long iterations, long timeLimitNanos, double exploration) {
+        boolean timeLimited = timeLimitNanos != Long.MAX_VALUE;
+        long deadline = System.nanoTime() + timeLimitNanos;
+        if (root == null || rootHash != board.hash() || root.mover == toMove) {
+            root = new MctsNode(board, MctsNode.NO_MOVE, toMove.getOpponent());
+            rootHash = board.hash();
+        }
+        int cells = board.getSize() * board.getSize();
+        if (path.length < cells + 1) {
+            path = new MctsNode[cells + 1];
+            emptyCells = new int[cells];
+        }
+        var workBoard = board.copy();
+        for (long i = 0; i < iterations; i++) {
+            if (timeLimited && i > 0 && i % CLOCK_CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0) {
+                break;
+            }
+            this.iterate(workBoard, exploration);
+        }
+        return root;
+    }
+
+    /** Runs one selection, expansion, playout and backpropagation step, leaving the board unchanged. */
+    private void iterate(TicTacToeBoard board, double exploration) {
+        MctsNode node = root;
+        int length = 0;
+        path[length++] = node;
+        while (!node.terminal && node.isFullyExpanded()) {
+            node = node.select(exploration);
+            board.place(node.move, node.mover);
+            path[length++] = node;
+        }
+        if (!node.terminal) {
+            node = node.expand(board, random);
+            path[length++] = node;
+        }
+
+        PlayerType winner = node.winning ? node.mover : node.terminal ? null : this.playout(board, node.mover);
+        for (int i = length - 1; i >= 0; i--) {
+            MctsNode visited = path[i];
+            visited.visits++;
+            if (winner == null) {
+                visited.wins += 0.5;
+            } else if (winner == visited.mover) {
+                visited.wins += 1;
+            }
+            if (i > 0) {
+                board.remove(visited.move);
+            }
+        }
+    }
+
+    /**
+     * Plays uniformly random moves until the game ends, then takes them back.
+     *
+     * @param board      position to play out
+     * @param lastPlayer player who made the last move
+     * @return the winner, or {@code null} for a draw
+     */
+    private PlayerType playout(TicTacToeBoard board, PlayerType lastPlayer) {
+        int cells = board.getSize() * board.getSize();
+        int count = 0;
+        for (int cell = 0; cell < cells; cell++) {
+            if (board.isEmpty(cell)) {
+                emptyCells[count++] = cell;
+            }
+        }
+        int initialCount = count;
+        PlayerType player = lastPlayer;
+        PlayerType winner = null;
+        while (count > 0) {
+            player = player.getOpponent();
+            int index = random.nextInt(count);
+            int cell = emptyCells[index];
+            emptyCells[index] = emptyCells[--count];
+            emptyCells[count] = cell;
+            board.place(cell, player);
+            if (board.checkWin(cell, player)) {
+                winner = player;
+                break;
+            }
+        }
+        for (int i = count; i < initialCount; i++) {
+            board.remove(emptyCells[i]);
+        }
+        return winner;
+    }
+}
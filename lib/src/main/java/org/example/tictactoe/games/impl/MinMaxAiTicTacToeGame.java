@@ -1,20 +1,84 @@
 package org.example.tictactoe.games.impl;
 
 import org.example.tictactoe.boards.TicTacToeBoard;
+import org.example.tictactoe.cache.TranspositionTable;
 import org.example.tictactoe.enums.PlayerType;
+import org.example.tictactoe.enums.SearchMode;
 import org.example.tictactoe.games.AiMove;
 import org.example.tictactoe.games.TicTacToeGame;
+import org.example.tictactoe.solver.SolutionTable;
 import org.example.tictactoe.utils.Point;
+import org.example.tictactoe.utils.SearchBudget;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Minimax-based AI that evaluates all possible moves to pick the optimal one
  * assuming the opponent also plays optimally.
+ * <p>
+ * Scores of already searched positions are cached in a {@link TranspositionTable},
+ * which by default is {@link TranspositionTable#shared() shared} by all instances,
+ * so subtrees reached through different move orders or in other games are not searched again.
+ * Positions are keyed by their {@link TicTacToeBoard#canonicalHash() canonical hash}, so rotated
+ * and mirrored positions share one entry, and root moves leading to symmetric positions are
+ * searched only once.
+ * <p>
+ * By default the classic 3x3 game is answered from the precomputed {@link SolutionTable}
+ * without any search. Other boards use {@link SearchMode#ALPHA_BETA alpha-beta pruning}, trying
+ * the center first, then corners, then edges, with cells that caused cutoffs earlier in the same
+ * search promoted (history heuristic). {@link SearchMode#FULL_WIDTH} keeps the plain minimax
+ * for comparison; {@link #getLastSearchNodes()} reports how many positions each mode visited.
+ * <p>
+ * Given a {@link #setSearchPool(ForkJoinPool) search pool}, the alpha-beta search forks every
+ * root move (and optionally deeper subtrees) onto that {@link ForkJoinPool}, giving each task its own
+ * board copy. Every forked subtree is searched to its exact value, so the chosen move is the same
+ * as in the sequential search.
+ * <p>
+ * {@link #makeMove(SearchBudget)} bounds the work of a single move: it runs iterative deepening,
+ * scoring positions at the depth horizon heuristically, and returns the best move of the deepest
+ * completed iteration once the time or node budget runs out.
+ * <p>
+ * Below the root, the sequential searches make and unmake moves in place on a single board copy
+ * and pass moves around as packed cell indices, so they allocate nothing per visited position.
  */
 public class MinMaxAiTicTacToeGame extends TicTacToeGame implements AiMove {
 
+    /** Name reported to the metrics. */
+    private static final String ENGINE = "minmax";
+
+    /** Packed move value meaning that no move was found. */
+    private static final int NO_MOVE = -1;
+
+    /** Cache of scores of searched positions. */
+    private final TranspositionTable transpositionTable;
+
+    /** Algorithm used by {@link #makeMove()}. */
+    private final SearchMode searchMode;
+
+    /** Pool running the alpha-beta search; {@code null} searches sequentially on the calling thread. */
+    private ForkJoinPool searchPool;
+
+    /** Plies below the root whose subtrees are also forked in a parallel search. */
+    private int splitDepth;
+
+    /** Scores the depth horizon of a budgeted search. */
+    private HeuristicEvaluator evaluator = HeuristicEvaluator.DEFAULT;
+
+    /** Positions visited by the last call to {@link #makeMove()}. */
+    private long lastSearchNodes;
+
+    /** Transposition table lookups of the last call to {@link #makeMove()}. */
+    private long lastCacheProbes;
+
+    /** Transposition table lookups of the last call to {@link #makeMove()} that returned a usable score. */
+    private long lastCacheHits;
+
     /** Creates a Min Max AI game with default player names. */
     public MinMaxAiTicTacToeGame() {
         super();
+        this.transpositionTable = TranspositionTable.shared();
+        this.searchMode = SearchMode.SOLUTION_TABLE;
     }
 
     /**
@@ -24,84 +88,428 @@ public class MinMaxAiTicTacToeGame extends TicTacToeGame implements AiMove {
      * @param playerO name of the O player
      */
     public MinMaxAiTicTacToeGame(String playerX, String playerO) {
-        super(playerX, playerO);
+        this(playerX, playerO, TranspositionTable.shared());
+    }
+
+    /**
+     * Creates a Min Max AI game with custom player names and a dedicated score cache.
+     *
+     * @param playerX            name of the X player
+     * @param playerO            name of the O player
+     * @param transpositionTable cache of searched positions; may be shared with other games
+     */
+    public MinMaxAiTicTacToeGame(String playerX, String playerO, TranspositionTable transpositionTable) {
+        this(playerX, playerO, transpositionTable, SearchMode.SOLUTION_TABLE);
+    }
+
+    /**
+     * Creates a Min Max AI game with custom player names, score cache and search algorithm.
+     *
+     * @param playerX            name of the X player
+     * @param playerO            name of the O player
+     * @param transpositionTable cache of searched positions; may be shared with other games
+     * @param searchMode         algorithm used to search the game tree
+     */
+    public MinMaxAiTicTacToeGame(String playerX, String playerO, TranspositionTable transpositionTable,
+                                 SearchMode searchMode) {
+        this(playerX, playerO, TicTacToeBoard.SIZE, TicTacToeBoard.SIZE, transpositionTable, searchMode);
+    }
+
+    /**
+     * Creates a Min Max AI game on a board of the given geometry with the shared score cache.
+     *
+     * @param playerX   name of the X player
+     * @param playerO   name of the O player
+     * @param size      side length of the board
+     * @param winLength number of marks in a row required to win
+     */
+    public MinMaxAiTicTacToeGame(String playerX, String playerO, int size, int winLength) {
+        this(playerX, playerO, size, winLength, TranspositionTable.shared(), SearchMode.SOLUTION_TABLE);
+    }
+
+    /**
+     * Creates a Min Max AI game with every option configurable.
+     *
+     * @param playerX            name of the X player
+     * @param playerO            name of the O player
+     * @param size               side length of the board
+     * @param winLength          number of marks in a row required to win
+     * @param transpositionTable cache of searched positions; may be shared with other games
+     * @param searchMode         algorithm used to search the game tree
+     */
+    public MinMaxAiTicTacToeGame(String playerX, String playerO, int size, int winLength,
+                                 TranspositionTable transpositionTable, SearchMode searchMode) {
+        super(playerX, playerO, size, winLength);
+        this.transpositionTable = transpositionTable;
+        this.searchMode = searchMode;
+    }
+
+    /**
+     * Returns the number of positions visited by the last call to {@link #makeMove()},
+     * including positions answered from the transposition table.
+     *
+     * @return node count of the last search
+     */
+    public long getLastSearchNodes() {
+        return lastSearchNodes;
+    }
+
+    /**
+     * Returns the number of transposition table lookups made by the last call to {@link #makeMove()}.
+     *
+     * @return probe count of the last search
+     */
+    public long getLastCacheProbes() {
+        return lastCacheProbes;
+    }
+
+    /**
+     * Returns the number of transposition table lookups of the last call to {@link #makeMove()}
+     * that returned a usable score.
+     *
+     * @return hit count of the last search
+     */
+    public long getLastCacheHits() {
+        return lastCacheHits;
     }
 
     /**
-     * Computes the best next move for the AI using minimax search.
-     * The AI is assumed to play as O in this implementation.
+     * Sets the pool the alpha-beta search forks its tasks onto. The pool is owned by the caller,
+     * which decides its width and shuts it down; {@link ForkJoinPool#commonPool()} may be used.
+     *
+     * @param searchPool pool running the search, or {@code null} to search on the calling thread
+     */
+    public void setSearchPool(ForkJoinPool searchPool) {
+        this.searchPool = searchPool;
+    }
+
+    /**
+     * Sets how many plies below the root are split into separate tasks in a parallel search.
+     * Split positions are searched without alpha-beta cutoffs between their children,
+     * so deeper splitting only pays off on boards with many cores and wide trees.
+     *
+     * @param splitDepth 0 to fork only the root moves; higher values also fork deeper subtrees
+     * @throws IllegalArgumentException if the depth is negative
+     */
+    public void setSplitDepth(int splitDepth) {
+        if (splitDepth < 0) {
+            throw new IllegalArgumentException("Split depth must not be negative: " + splitDepth);
+        }
+        this.splitDepth = splitDepth;
+    }
+
+    /**
+     * Sets the weights of the heuristic that scores positions at the depth horizon of a budgeted search.
+     * A line that holds marks of only one player is worth the weight of its mark count to that player,
+     * so open twos, open threes and immediate threats can be tuned separately. By default a line is
+     * worth the square of its mark count. Cached heuristic scores are keyed by the weights,
+     * so games with different weights may share a transposition table.
+     *
+     * @param weights {@code weights[i]} is the value of a line holding {@code i + 1} marks;
+     *                lines with more marks use the last weight
+     * @throws IllegalArgumentException if no weight is given or a weight is negative
+     */
+    public void setHeuristicWeights(int... weights) {
+        this.evaluator = new HeuristicEvaluator(weights);
+    }
+
+    /**
+     * Computes the best next move for the player to move using minimax search.
      *
      * @return coordinates of the best move as a {@link Point}
      */
     @Override
     public Point makeMove() {
-        int bestScore = Integer.MIN_VALUE;
-        Point bestMove = null;
+        long start = System.nanoTime();
+        this.resetStatistics();
+        Point move = switch (searchMode) {
+            case FULL_WIDTH -> this.fullWidthRoot();
+            case ALPHA_BETA -> this.searchRoot();
+            case SOLUTION_TABLE -> this.isClassicBoard() ? this.solutionTableMove() : this.searchRoot();
+        };
+        this.recordDecision(ENGINE, start, lastSearchNodes, lastCacheProbes, lastCacheHits);
+        return move;
+    }
+
+    /**
+     * Computes the best move for the AI that can be found within the budget using iterative
+     * deepening alpha-beta search. The first iteration (one ply) always completes, so a move is
+     * returned even for a tiny budget. The search is sequential regardless of the search pool;
+     * the classic board is still answered from the solution table in {@link SearchMode#SOLUTION_TABLE} mode.
+     *
+     * @param budget limits on time and visited positions
+     * @return coordinates of the best move found as a {@link Point}
+     */
+    @Override
+    public Point makeMove(SearchBudget budget) {
+        long start = System.nanoTime();
+        this.resetStatistics();
+        Point move = this.searchWithinBudget(budget);
+        this.recordDecision(ENGINE, start, lastSearchNodes, lastCacheProbes, lastCacheHits);
+        return move;
+    }
 
+    private Point searchWithinBudget(SearchBudget budget) {
+        if (searchMode == SearchMode.SOLUTION_TABLE && this.isClassicBoard()) {
+            return this.solutionTableMove();
+        }
         var copyBoard = this.board.copy();
-        for (int row = 0; row < TicTacToeBoard.SIZE; row++) {
-            for (int column = 0; column < TicTacToeBoard.SIZE; column++) {
-                if (copyBoard.getPlayer(row, column) == null) {
-                    copyBoard.move(row, column, PlayerType.O);
-                    int currentScore = this.miniMax(copyBoard, PlayerType.X, new Point(row, column));
-                    copyBoard.move(row, column, null);
-
-                    if (currentScore > bestScore) {
-                        bestScore = currentScore;
-                        bestMove = new Point(row, column);
-                    }
+        int size = copyBoard.getSize();
+        var searcher = new AlphaBetaSearcher(transpositionTable, size * size, evaluator);
+        int[] moves = this.rootMoves(copyBoard, searcher.orderedMoves(copyBoard));
+        if (moves.length == 0) {
+            return null;
+        }
+
+        PlayerType aiPlayer = currentPlayer;
+        int bestMove = moves[0];
+        for (int depth = 1; depth <= copyBoard.countEmptyCells(); depth++) {
+            if (depth == 2) {
+                searcher.startBudget(budget);
+            }
+            int bestScore = -AlphaBetaSearcher.INFINITY;
+            int iterationBest = moves[0];
+            for (int cell : moves) {
+                copyBoard.place(cell, aiPlayer);
+                int currentScore = searchChild(searcher, copyBoard, aiPlayer, cell, depth - 1, bestScore);
+                copyBoard.remove(cell);
+                if (searcher.isAborted()) {
+                    break;
                 }
+                if (currentScore > bestScore) {
+                    bestScore = currentScore;
+                    iterationBest = cell;
+                }
+            }
+            if (searcher.isAborted()) {
+                break;
+            }
+            bestMove = iterationBest;
+            moveToFront(moves, bestMove);
+            if (Math.abs(bestScore) >= AlphaBetaSearcher.WIN_SCORE) {
+                break;
             }
         }
 
-        return bestMove;
+        this.collectStatistics(searcher);
+        return new Point(bestMove / size, bestMove % size);
+    }
+
+    private Point searchRoot() {
+        return searchPool != null ? this.parallelRoot() : this.alphaBetaRoot();
+    }
+
+    private boolean isClassicBoard() {
+        return board.getSize() == TicTacToeBoard.SIZE && board.getWinLength() == TicTacToeBoard.SIZE;
+    }
+
+    private Point solutionTableMove() {
+        int cell = SolutionTable.classic().bestMove(board.getMask(PlayerType.X), board.getMask(PlayerType.O));
+        if (cell == SolutionTable.NO_MOVE) {
+            return null;
+        }
+        return new Point(cell / TicTacToeBoard.SIZE, cell % TicTacToeBoard.SIZE);
+    }
+
+    private Point fullWidthRoot() {
+        PlayerType aiPlayer = currentPlayer;
+        int sign = aiPlayer == PlayerType.O ? 1 : -1;
+        int bestScore = Integer.MIN_VALUE;
+        int bestMove = NO_MOVE;
+
+        var copyBoard = this.board.copy();
+        int size = copyBoard.getSize();
+        int[] cells = new int[copyBoard.countEmptyCells()];
+        int count = 0;
+        for (int cell = 0; cell < size * size; cell++) {
+            if (copyBoard.isEmpty(cell)) {
+                cells[count++] = cell;
+            }
+        }
+        for (int cell : this.rootMoves(copyBoard, cells)) {
+            copyBoard.place(cell, aiPlayer);
+            int currentScore = sign * this.miniMax(copyBoard, aiPlayer.getOpponent(), cell);
+            copyBoard.remove(cell);
+
+            if (currentScore > bestScore) {
+                bestScore = currentScore;
+                bestMove = cell;
+            }
+        }
+
+        return toPoint(bestMove, size);
+    }
+
+    private Point alphaBetaRoot() {
+        PlayerType aiPlayer = currentPlayer;
+        int bestScore = -AlphaBetaSearcher.INFINITY;
+        int bestMove = NO_MOVE;
+
+        var copyBoard = this.board.copy();
+        int size = copyBoard.getSize();
+        var searcher = new AlphaBetaSearcher(transpositionTable, size * size);
+        for (int cell : this.rootMoves(copyBoard, searcher.orderedMoves(copyBoard))) {
+            copyBoard.place(cell, aiPlayer);
+            int currentScore = searchChild(searcher, copyBoard, aiPlayer, cell, copyBoard.countEmptyCells(), bestScore);
+            copyBoard.remove(cell);
+
+            if (currentScore > bestScore) {
+                bestScore = currentScore;
+                bestMove = cell;
+            }
+        }
+
+        this.collectStatistics(searcher);
+        return toPoint(bestMove, size);
+    }
+
+    private Point parallelRoot() {
+        PlayerType aiPlayer = currentPlayer;
+        int sign = aiPlayer == PlayerType.O ? 1 : -1;
+        var copyBoard = this.board.copy();
+        int size = copyBoard.getSize();
+        var searcher = new AlphaBetaSearcher(transpositionTable, size * size);
+        int[] moves = this.rootMoves(copyBoard, searcher.orderedMoves(copyBoard));
+        var statistics = new SearchStatistics();
+
+        ParallelSearchTask[] tasks = new ParallelSearchTask[moves.length];
+        for (int i = 0; i < moves.length; i++) {
+            var taskBoard = copyBoard.copy();
+            taskBoard.place(moves[i], aiPlayer);
+            tasks[i] = new ParallelSearchTask(taskBoard, aiPlayer.getOpponent(), moves[i], splitDepth,
+                    transpositionTable, statistics);
+        }
+        for (ParallelSearchTask task : tasks) {
+            searchPool.execute(task);
+        }
+
+        int bestScore = Integer.MIN_VALUE;
+        int bestMove = NO_MOVE;
+        for (int i = 0; i < tasks.length; i++) {
+            int currentScore = sign * tasks[i].join();
+            if (currentScore > bestScore) {
+                bestScore = currentScore;
+                bestMove = moves[i];
+            }
+        }
+
+        lastSearchNodes = statistics.nodes.sum();
+        lastCacheProbes = statistics.cacheProbes.sum();
+        lastCacheHits = statistics.cacheHits.sum();
+        return toPoint(bestMove, size);
+    }
+
+    private void resetStatistics() {
+        lastSearchNodes = 0;
+        lastCacheProbes = 0;
+        lastCacheHits = 0;
+    }
+
+    private void collectStatistics(AlphaBetaSearcher searcher) {
+        lastSearchNodes = searcher.getNodes();
+        lastCacheProbes = searcher.getCacheProbes();
+        lastCacheHits = searcher.getCacheHits();
+    }
+
+    /**
+     * Filters candidate root moves, dropping those that lead to a position symmetric
+     * to one reached by an earlier candidate.
+     *
+     * @param board  position to move from (left unchanged)
+     * @param ordered candidate cells in search order
+     * @return cells worth searching, in the same order
+     */
+    private int[] rootMoves(TicTacToeBoard board, int[] ordered) {
+        long[] searched = new long[ordered.length];
+        int count = 0;
+        for (int cell : ordered) {
+            board.place(cell, currentPlayer);
+            long canonicalHash = board.canonicalHash();
+            board.remove(cell);
+            if (!contains(searched, count, canonicalHash)) {
+                searched[count] = canonicalHash;
+                ordered[count++] = cell;
+            }
+        }
+        return Arrays.copyOf(ordered, count);
     }
 
     /**
      * Minimax recursive evaluation.
      *
-     * @param board working board (mutated and reverted during search)
-     * @param isMax which player's turn is evaluating: {@link PlayerType#O} for maximizing, {@link PlayerType#X} for minimizing
-     * @param point last played point to evaluate terminal states quickly
-     * @return score in range {-1, 0, 1} where 1 is O win, -1 is X win, 0 is draw
-     */
-    private int miniMax(TicTacToeBoard board, PlayerType isMax, Point point) {
-        if (board.checkWin(point.row(), point.col(), PlayerType.O)) {
-            return 1;
-        } else if (board.checkWin(point.row(), point.col(), PlayerType.X)) {
-            return -1;
+     * @param board    working board (mutated and reverted during search)
+     * @param isMax    which player's turn is evaluating: {@link PlayerType#O} for maximizing, {@link PlayerType#X} for minimizing
+     * @param lastMove cell index of the last played move to evaluate terminal states quickly
+     * @return {@code WIN_SCORE} if O wins, {@code -WIN_SCORE} if X wins, 0 for a draw
+     */
+    private int miniMax(TicTacToeBoard board, PlayerType isMax, int lastMove) {
+        lastSearchNodes++;
+        if (board.checkWin(lastMove, PlayerType.O)) {
+            return AlphaBetaSearcher.WIN_SCORE;
+        } else if (board.checkWin(lastMove, PlayerType.X)) {
+            return -AlphaBetaSearcher.WIN_SCORE;
         } else if (board.checkDraw()) {
             return 0;
         }
 
-        int bestScore = Integer.MIN_VALUE;
-        if (isMax == PlayerType.O) {
-            for (int row = 0; row < TicTacToeBoard.SIZE; row++) {
-                for (int column = 0; column < TicTacToeBoard.SIZE; column++) {
-                    if (board.getPlayer(row, column) == null) {
-                        board.move(row, column, PlayerType.O);
-                        int currentScore = this.miniMax(board, PlayerType.X, new Point(row, column));
-                        board.move(row, column, null);
-
-                       bestScore = Math.max(bestScore, currentScore);
-                    }
-                }
-            }
-        } else {
-            bestScore =  Integer.MAX_VALUE;
-            for (int row = 0; row < TicTacToeBoard.SIZE; row++) {
-                for (int column = 0; column < TicTacToeBoard.SIZE; column++) {
-                    if (board.getPlayer(row, column) == null) {
-                        board.move(row, column, PlayerType.X);
-                        int currentScore = this.miniMax(board, PlayerType.O, new Point(row, column));
-                        board.move(row, column, null);
-
-                        bestScore = Math.min(bestScore, currentScore);
-                    }
-                }
+        long key = AlphaBetaSearcher.key(board, isMax);
+        int cachedScore = transpositionTable.probe(key, board.countEmptyCells(), Integer.MIN_VALUE, Integer.MAX_VALUE);
+        lastCacheProbes++;
+        if (cachedScore != TranspositionTable.MISS) {
+            lastCacheHits++;
+            return cachedScore;
+        }
+
+        int cells = board.getSize() * board.getSize();
+        int bestScore = isMax == PlayerType.O ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        for (int cell = 0; cell < cells; cell++) {
+            if (board.isEmpty(cell)) {
+                board.place(cell, isMax);
+                int currentScore = this.miniMax(board, isMax.getOpponent(), cell);
+                board.remove(cell);
+
+                bestScore = isMax == PlayerType.O ? Math.max(bestScore, currentScore) : Math.min(bestScore, currentScore);
             }
         }
 
+        transpositionTable.store(key, board.countEmptyCells(), bestScore);
         return bestScore;
     }
+
+    /**
+     * Searches the position reached by the AI's move and returns its score from the AI's point of view.
+     * Scores not better than {@code bestScore} are only guaranteed to be upper bounds.
+     */
+    private static int searchChild(AlphaBetaSearcher searcher, TicTacToeBoard board, PlayerType aiPlayer,
+                                   int cell, int depth, int bestScore) {
+        if (aiPlayer == PlayerType.O) {
+            return searcher.search(board, PlayerType.X, cell, depth, bestScore, AlphaBetaSearcher.INFINITY);
+        }
+        return -searcher.search(board, PlayerType.O, cell, depth, -AlphaBetaSearcher.INFINITY, -bestScore);
+    }
+
+    /** Converts a cell index to a point; {@code null} if there is no move. */
+    private static Point toPoint(int cell, int size) {
+        return cell == NO_MOVE ? null : new Point(cell / size, cell % size);
+    }
+
+    /** Moves the given cell to the start of the array, keeping the order of the others. */
+    private static void moveToFront(int[] cells, int cell) {
+        int index = 0;
+        while (cells[index] != cell) {
+            index++;
+        }
+        System.arraycopy(cells, 0, cells, 1, index);
+        cells[0] = cell;
+    }
+
+    /** Checks whether a root move leading to a symmetric position has already been searched. */
+    private static boolean contains(long[] hashes, int count, long hash) {
+        for (int i = 0; i < count; i++) {
+            if (hashes[i] == hash) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,75 @@
+package org.example.tictactoe.games.impl;
+
+import org.example.tictactoe.boards.TicTacToeBoard;
+import org.example.tictactoe.cache.TranspositionTable;
+import org.example.tictactoe.enums.PlayerType;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/join task computing the exact minimax value of a position.
+ * <p>
+ * While {@code splitPlies} is positive the children of the position are forked as separate tasks,
+ * each working on its own board copy; below that the subtree is searched sequentially with
+ * a full-window {@link AlphaBetaSearcher}. Because every task returns the exact value,
+ * the combined result does not depend on scheduling.
+ */
+final class ParallelSearchTask extends RecursiveTask<Integer> {
+
+    private final TicTacToeBoard board;
+    private final PlayerType toMove;
+    private final int lastMove;
+    private final int splitPlies;
+    private final TranspositionTable transpositionTable;
+    private final SearchStatistics statistics;
+
+    /**
+     * Creates a task for the position on the given board.
+     *
+     * @param board              position to evaluate; owned by the task
+     * @param toMove             player to move in the position
+     * @param lastMove           cell index of the move that produced the position
+     * @param splitPlies         number of further plies whose children are forked
+     * @param transpositionTable cache shared by all tasks
+     * @param statistics         counters shared by all tasks
+     */
+    ParallelSearchTask(TicTacToeBoard board, PlayerType toMove, int lastMove, int splitPlies,
+                       TranspositionTable transpositionTable, SearchStatistics statistics) {
+        this.board = board;
+        this.toMove = toMove;
+        this.lastMove = lastMove;
+        this.splitPlies = splitPlies;
+        this.transpositionTable = transpositionTable;
+        this.statistics = statistics;
+    }
+
+    @Override
+    protected Integer compute() {
+        var searcher = new AlphaBetaSearcher(transpositionTable, board.getSize() * board.getSize());
+        PlayerType lastPlayer = toMove.getOpponent();
+        if (splitPlies <= 0 || board.checkWin(lastMove, lastPlayer) || board.checkDraw()) {
+            int score = searcher.search(board, toMove, lastMove, board.countEmptyCells(),
+                    -AlphaBetaSearcher.INFINITY, AlphaBetaSearcher.INFINITY);
+            statistics.add(searcher);
+            return score;
+        }
+        statistics.nodes.increment();
+
+        int[] moves = searcher.orderedMoves(board);
+        ParallelSearchTask[] children = new ParallelSearchTask[moves.length];
+        for (int i = 0; i < moves.length; i++) {
+            var childBoard = board.copy();
+            childBoard.place(moves[i], toMove);
+            children[i] = new ParallelSearchTask(childBoard, lastPlayer, moves[i], splitPlies - 1,
+                    transpositionTable, statistics);
+        }
+        invokeAll(children);
+
+        int bestScore = toMove == PlayerType.O ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        for (ParallelSearchTask child : children) {
+            int score = child.join();
+            bestScore = toMove == PlayerType.O ? Math.max(bestScore, score) : Math.min(bestScore, score);
+        }
+        return bestScore;
+    }
+}
@@ -0,0 +1,275 @@
+package org.example.tictactoe.games.impl;
+
+import org.example.tictactoe.boards.TicTacToeBoard;
+import org.example.tictactoe.cache.TranspositionTable;
+import org.example.tictactoe.enums.PlayerType;
+
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Stateless bulk evaluator of encoded positions, for scoring large sets of positions without a game per position.
+ * <p>
+ * A position is one {@code long}: X's marks in the low 32 bits and O's marks in the high 32 bits, bit
+ * {@code row * size + col} marking a cell (see {@link #encode(long, long)}), so boards of up to
+ * {@value #MAX_SIZE}x{@value #MAX_SIZE} cells are supported. The player to move follows from the mark counts.
+ * <p>
+ * Every thread evaluating positions keeps one working board and one {@link AlphaBetaSearcher} for the lifetime
+ * of the evaluator, so evaluating a position allocates nothing beyond its result. {@link #evaluateAll(long[], int[], int[])}
+ * splits an array into batches of {@value #BATCH_SIZE} positions and evaluates them on the common fork-join pool;
+ * the searchers share one thread-safe {@link TranspositionTable}. An evaluator may be used by any number of threads.
+ * Every position is searched with fresh move-ordering history, so its result does not depend on which
+ * thread evaluated it or on what that thread evaluated before.
+ * <p>
+ * Scores follow the search convention: {@link #WIN_SCORE} if O wins, {@code -WIN_SCORE} if X wins,
+ * 0 for a draw, and heuristic scores in between when the depth is limited.
+ */
+public final class PositionEvaluator {
+
+    /** Largest supported board side length. */
+    public static final int MAX_SIZE = 5;
+
+    /** Score of a position won by O; a position won by X scores its negation. */
+    public static final int WIN_SCORE = AlphaBetaSearcher.WIN_SCORE;
+
+    /** Best move of a finished position. */
+    public static final int NO_MOVE = -1;
+
+    /** Number of positions evaluated by one task of {@link #evaluateAll(long[], int[], int[])}. */
+    static final int BATCH_SIZE = 1024;
+
+    /** Bits of a position holding the marks of one player. */
+    private static final int PLAYER_BITS = 32;
+
+    private static final long PLAYER_MASK = (1L << PLAYER_BITS) - 1;
+
+    private final int size;
+    private final int winLength;
+    private final int cells;
+
+    /** Maximum search depth; {@link Integer#MAX_VALUE} for exact values. */
+    private final int depth;
+
+    private final TranspositionTable transpositionTable;
+
+    /** Working board and searcher of each thread. */
+    private final ThreadLocal<Scratch> scratch;
+
+    /**
+     * Creates an evaluator returning exact game values, caching in the shared transposition table.
+     *
+     * @param size      side length of the board, at most {@value #MAX_SIZE}
+     * @param winLength number of marks in a row required to win
+     * @throws IllegalArgumentException if the size is out of range or the win length is not in range 1..size
+     */
+    public PositionEvaluator(int size, int winLength) {
+        this(size, winLength, Integer.MAX_VALUE, TranspositionTable.shared());
+    }
+
+    /**
+     * Creates an evaluator searching a limited number of plies, scoring the horizon heuristically.
+     *
+     * @param size               side length of the board, at most {@value #MAX_SIZE}
+     * @param winLength          number of marks in a row required to win
+     * @param depth              maximum number of plies to search, at least 1
+     * @param transpositionTable cache of searched positions
+     * @throws IllegalArgumentException if the size is out of range, the win length is not in range 1..size
+     *                                  or the depth is below 1
+     */
+    public PositionEvaluator(int size, int winLength, int depth, TranspositionTable transpositionTable) {
+        if (size <= 0 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Board size must be in range 1.." + MAX_SIZE + ": " + size);
+        }
+        if (depth < 1) {
+            throw new IllegalArgumentException("Depth must be at least 1: " + depth);
+        }
+        this.size = size;
+        this.winLength = winLength;
+        this.cells = size * size;
+        this.depth = depth;
+        this.transpositionTable = transpositionTable;
+        this.scratch = ThreadLocal.withInitial(() -> new Scratch(
+                new TicTacToeBoard(size, winLength), new AlphaBetaSearcher(transpositionTable, cells)));
+        // fails fast on an invalid win length
+        scratch.get();
+    }
+
+    /**
+     * Encodes a position from the marks of both players.
+     *
+     * @param xMask cells marked by X, bit {@code row * size + col}
+     * @param oMask cells marked by O, bit {@code row * size + col}
+     * @return encoded position
+     * @throws IllegalArgumentException if a mask has bits above the largest supported board
+     */
+    public static long encode(long xMask, long oMask) {
+        if ((xMask | oMask) >>> (MAX_SIZE * MAX_SIZE) != 0) {
+            throw new IllegalArgumentException("Marks outside a " + MAX_SIZE + "x" + MAX_SIZE + " board");
+        }
+        return xMask | oMask << PLAYER_BITS;
+    }
+
+    /**
+     * Encodes the marks of a board.
+     *
+     * @param board board of at most {@value #MAX_SIZE}x{@value #MAX_SIZE} cells
+     * @return encoded position
+     * @throws IllegalArgumentException if the board is larger than supported
+     */
+    public static long encode(TicTacToeBoard board) {
+        if (board.getSize() > MAX_SIZE) {
+            throw new IllegalArgumentException("Board size must be at most " + MAX_SIZE + ": " + board.getSize());
+        }
+        return encode(board.getMask(PlayerType.X), board.getMask(PlayerType.O));
+    }
+
+    /**
+     * Returns the side length of the evaluated boards.
+     *
+     * @return number of rows (and columns)
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of marks in a row required to win.
+     *
+     * @return win length
+     */
+    public int getWinLength() {
+        return winLength;
+    }
+
+    /**
+     * Returns the cache shared by the searches of all threads.
+     *
+     * @return transposition table
+     */
+    public TranspositionTable getTranspositionTable() {
+        return transpositionTable;
+    }
+
+    /**
+     * Evaluates a single position on the calling thread.
+     *
+     * @param position encoded position
+     * @return score and best move of the player to move
+     * @throws IllegalArgumentException if the position cannot arise in a game on this board
+     */
+    public Evaluation evaluate(long position) {
+        Scratch local = scratch.get();
+        int score = this.evaluate(local, position);
+        return new Evaluation(score, local.bestMove);
+    }
+
+    /**
+     * Evaluates a stream of positions. Positions are evaluated as the stream is consumed,
+     * in parallel if the stream is parallel, with one searcher per worker thread.
+     *
+     * @param positions encoded positions
+     * @return evaluations in the order of the positions
+     */
+    public Stream<Evaluation> evaluate(LongStream positions) {
+        return positions.mapToObj(this::evaluate);
+    }
+
+    /**
+     * Evaluates an array of positions in parallel batches, writing the results to the given arrays.
+     *
+     * @param positions encoded positions
+     * @param scores    receives the score of each position
+     * @param bestMoves receives the best move of each position as a cell index, or {@link #NO_MOVE} if it is finished
+     * @throws IllegalArgumentException if an output array is shorter than the positions,
+     *                                  or a position cannot arise in a game on this board
+     */
+    public void evaluateAll(long[] positions, int[] scores, int[] bestMoves) {
+        if (scores.length < positions.length || bestMoves.length < positions.length) {
+            throw new IllegalArgumentException("Result arrays must hold " + positions.length + " positions");
+        }
+        int batches = (positions.length + BATCH_SIZE - 1) / BATCH_SIZE;
+        IntStream.range(0, batches).parallel().forEach(batch -> {
+            Scratch local = scratch.get();
+            int to = Math.min(positions.length, (batch + 1) * BATCH_SIZE);
+            for (int i = batch * BATCH_SIZE; i < to; i++) {
+                scores[i] = this.evaluate(local, positions[i]);
+                bestMoves[i] = local.bestMove;
+            }
+        });
+    }
+
+    /**
+     * Scores a position with the thread's scratch space, leaving its best move in {@link Scratch#bestMove}.
+     */
+    private int evaluate(Scratch local, long position) {
+        long x = position & PLAYER_MASK;
+        long o = position >>> PLAYER_BITS;
+        if ((x & o) != 0 || (x | o) >>> cells != 0) {
+            throw new IllegalArgumentException("Invalid position for a " + size + "x" + size + " board: "
+                    + Long.toHexString(position));
+        }
+        int xCount = Long.bitCount(x);
+        int oCount = Long.bitCount(o);
+        if (xCount != oCount && xCount != oCount + 1) {
+            throw new IllegalArgumentException("Invalid mark counts X=" + xCount + ", O=" + oCount);
+        }
+
+        TicTacToeBoard board = local.board;
+        this.place(board, x, PlayerType.X);
+        this.place(board, o, PlayerType.O);
+        try {
+            boolean xWon = board.hasWon(PlayerType.X);
+            boolean oWon = board.hasWon(PlayerType.O);
+            local.bestMove = NO_MOVE;
+            if (xWon && oWon) {
+                throw new IllegalArgumentException("Both players have a line: " + Long.toHexString(position));
+            } else if (xWon || oWon) {
+                return xWon ? -WIN_SCORE : WIN_SCORE;
+            } else if (xCount + oCount == cells) {
+                return 0;
+            }
+            PlayerType toMove = xCount == oCount ? PlayerType.X : PlayerType.O;
+            local.searcher.resetHistory();
+            int score = local.searcher.searchRoot(board, toMove, Math.min(depth, cells - xCount - oCount));
+            local.bestMove = local.searcher.getRootBestMove();
+            return score;
+        } finally {
+            this.clear(board, x | o);
+        }
+    }
+
+    private void place(TicTacToeBoard board, long mask, PlayerType player) {
+        for (long rest = mask; rest != 0; rest &= rest - 1) {
+            board.place(Long.numberOfTrailingZeros(rest), player);
+        }
+    }
+
+    private void clear(TicTacToeBoard board, long mask) {
+        for (long rest = mask; rest != 0; rest &= rest - 1) {
+            board.remove(Long.numberOfTrailingZeros(rest));
+        }
+    }
+
+    /**
+     * Score and best move of a position.
+     *
+     * @param score    {@link #WIN_SCORE} if O wins, {@code -WIN_SCORE} if X wins, 0 for a draw,
+     *                 heuristic in between when the depth is limited
+     * @param bestMove best cell {@code row * size + col} for the player to move, or {@link #NO_MOVE} if the game is over
+     */
+    public record Evaluation(int score, int bestMove) {
+    }
+
+    /** Per-thread working state; {@link #bestMove} carries the second result of an evaluation. */
+    private static final class Scratch {
+        private final TicTacToeBoard board;
+        private final AlphaBetaSearcher searcher;
+        private int bestMove = NO_MOVE;
+
+        private Scratch(TicTacToeBoard board, AlphaBetaSearcher searcher) {
+            this.board = board;
+            this.searcher = searcher;
+        }
+    }
+}
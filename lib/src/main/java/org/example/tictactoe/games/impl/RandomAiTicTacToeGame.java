@@ -1,23 +1,34 @@
 package org.example.tictactoe.games.impl;
 
-import org.example.tictactoe.boards.TicTacToeBoard;
 import org.example.tictactoe.enums.GameState;
 import org.example.tictactoe.games.AiMove;
 import org.example.tictactoe.games.TicTacToeGame;
 import org.example.tictactoe.utils.Point;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Simple AI that selects a random empty cell for its next move.
+ * <p>
+ * A move is one draw from the board's indexable set of empty cells, so it takes constant time
+ * however full or large the board is. Unseeded games draw from the {@link ThreadLocalRandom} of the
+ * calling thread, so any number of games on any number of threads never contend on a shared generator;
+ * seeded games own a {@link SplittableRandom} and replay the same moves for the same seed and opponent moves.
  */
 public class RandomAiTicTacToeGame extends TicTacToeGame implements AiMove {
 
-    private final Random random = new Random();
+    /** Name reported to the metrics. */
+    private static final String ENGINE = "random";
+
+    /** Generator of a seeded game; {@code null} to use the thread's generator. */
+    private final SplittableRandom random;
 
     /** Creates a random AI game with default player names. */
     public RandomAiTicTacToeGame() {
         super();
+        this.random = null;
     }
 
     /**
@@ -28,23 +39,51 @@ public class RandomAiTicTacToeGame extends TicTacToeGame implements AiMove {
      */
     public RandomAiTicTacToeGame(String playerX, String playerO) {
         super(playerX, playerO);
+        this.random = null;
+    }
+
+    /**
+     * Creates a random AI game with custom player names on a board of the given geometry.
+     *
+     * @param playerX   name of the X player
+     * @param playerO   name of the O player
+     * @param size      side length of the board
+     * @param winLength number of marks in a row required to win
+     */
+    public RandomAiTicTacToeGame(String playerX, String playerO, int size, int winLength) {
+        super(playerX, playerO, size, winLength);
+        this.random = null;
+    }
+
+    /**
+     * Creates a reproducible random AI game with custom player names on a board of the given geometry.
+     *
+     * @param playerX   name of the X player
+     * @param playerO   name of the O player
+     * @param size      side length of the board
+     * @param winLength number of marks in a row required to win
+     * @param seed      seed of the game's generator
+     */
+    public RandomAiTicTacToeGame(String playerX, String playerO, int size, int winLength, long seed) {
+        super(playerX, playerO, size, winLength);
+        this.random = new SplittableRandom(seed);
     }
 
     /**
      * Picks a uniformly random empty cell on the board.
      *
-     * @return a {@link Point} representing the chosen cell coordinates
+     * @return a {@link Point} representing the chosen cell coordinates, or {@code null} if the game is not in progress
      */
     @Override
     public Point makeMove() {
-        int row;
-        int col;
-
-        do {
-            row = random.nextInt(TicTacToeBoard.SIZE);
-            col = random.nextInt(TicTacToeBoard.SIZE);
-        } while (board.getPlayer(row, col) != null && gameState == GameState.IN_PROGRESS);
-
-        return new Point(row, col);
+        if (gameState != GameState.IN_PROGRESS) {
+            return null;
+        }
+        long start = System.nanoTime();
+        RandomGenerator generator = random != null ? random : ThreadLocalRandom.current();
+        int cell = board.getEmptyCell(generator.nextInt(board.countEmptyCells()));
+        int size = board.getSize();
+        this.recordDecision(ENGINE, start, 0, 0, 0);
+        return new Point(cell / size, cell % size);
     }
 }
@@ -0,0 +1,29 @@
+package org.example.tictactoe.games.impl;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters shared by all tasks of one parallel search.
+ */
+final class SearchStatistics {
+
+    /** Positions visited, including those answered from the transposition table. */
+    final LongAdder nodes = new LongAdder();
+
+    /** Transposition table lookups. */
+    final LongAdder cacheProbes = new LongAdder();
+
+    /** Transposition table lookups that returned a usable score. */
+    final LongAdder cacheHits = new LongAdder();
+
+    /**
+     * Adds the counts of a finished sequential search.
+     *
+     * @param searcher searcher whose totals are added
+     */
+    void add(AlphaBetaSearcher searcher) {
+        nodes.add(searcher.getNodes());
+        cacheProbes.add(searcher.getCacheProbes());
+        cacheHits.add(searcher.getCacheHits());
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.tictactoe.games.impl;
+
+import org.example.tictactoe.enums.GameState;
+import org.example.tictactoe.enums.PlayerType;
+import org.example.tictactoe.games.AiMove;
+import org.example.tictactoe.games.TicTacToeGame;
+import org.example.tictactoe.solver.Tablebase;
+import org.example.tictactoe.utils.Point;
+
+/**
+ * Perfect-play AI that answers every position from a precomputed {@link Tablebase}.
+ * <p>
+ * The board takes its geometry from the table. A move costs one table lookup per empty cell and no search,
+ * so any number of games may share one table. An immediate win is always played first,
+ * so a won game is finished as soon as possible rather than by any value-preserving line.
+ */
+public class TablebaseAiTicTacToeGame extends TicTacToeGame implements AiMove {
+
+    /** Name reported to the metrics. */
+    private static final String ENGINE = "tablebase";
+
+    private final Tablebase tablebase;
+
+    /**
+     * Creates a tablebase AI game with default player names.
+     *
+     * @param tablebase solved table of the board to play on
+     */
+    public TablebaseAiTicTacToeGame(Tablebase tablebase) {
+        this("Player X", "Player O", tablebase);
+    }
+
+    /**
+     * Creates a tablebase AI game with custom player names.
+     *
+     * @param playerX   name of the X player
+     * @param playerO   name of the O player
+     * @param tablebase solved table of the board to play on
+     */
+    public TablebaseAiTicTacToeGame(String playerX, String playerO, Tablebase tablebase) {
+        super(playerX, playerO, tablebase.getSize(), tablebase.getWinLength());
+        this.tablebase = tablebase;
+    }
+
+    /**
+     * Plays an immediate win if there is one, otherwise an optimal move from the table.
+     *
+     * @return a {@link Point} representing the chosen cell, or {@code null} if the game is not in progress
+     */
+    @Override
+    public Point makeMove() {
+        if (gameState != GameState.IN_PROGRESS) {
+            return null;
+        }
+        long start = System.nanoTime();
+        Point move = this.tablebaseMove();
+        this.recordDecision(ENGINE, start, 0, 0, 0);
+        return move;
+    }
+
+    private Point tablebaseMove() {
+        int size = board.getSize();
+        for (int cell = 0; cell < size * size; cell++) {
+            if (board.isEmpty(cell)) {
+                board.place(cell, currentPlayer);
+                boolean win = board.checkWin(cell, currentPlayer);
+                board.remove(cell);
+                if (win) {
+                    return new Point(cell / size, cell % size);
+                }
+            }
+        }
+        int cell = tablebase.bestMove(board.getMask(PlayerType.X), board.getMask(PlayerType.O));
+        if (cell == Tablebase.NO_MOVE) {
+            return null;
+        }
+        return new Point(cell / size, cell % size);
+    }
+}
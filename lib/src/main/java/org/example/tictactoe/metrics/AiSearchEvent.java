@@ -0,0 +1,77 @@
+package org.example.tictactoe.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Java Flight Recorder event emitted for every move chosen by an AI.
+ * <p>
+ * The event is committed independently of the installed {@link GameMetrics}; while no recording has
+ * it enabled, {@link #emit} returns after a single check.
+ */
+@Name("org.example.tictactoe.AiSearch")
+@Label("AI Search")
+@Category("Tic-Tac-Toe")
+@Description("Move chosen by a Tic-Tac-Toe AI")
+@StackTrace(false)
+public final class AiSearchEvent extends Event {
+
+    @Label("Engine")
+    String engine;
+
+    @Label("Board Size")
+    int boardSize;
+
+    @Label("Win Length")
+    int winLength;
+
+    @Label("Move Number")
+    int moveNumber;
+
+    @Label("Search Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long searchTime;
+
+    @Label("Nodes")
+    long nodes;
+
+    @Label("Cache Probes")
+    long cacheProbes;
+
+    @Label("Cache Hits")
+    long cacheHits;
+
+    /**
+     * Commits an event describing one AI decision if the event is enabled in a running recording.
+     *
+     * @param engine      short name of the AI
+     * @param boardSize   side length of the board
+     * @param winLength   number of marks in a row required to win
+     * @param moveNumber  number of moves played before the decision
+     * @param searchTime  time taken to choose the move, in nanoseconds
+     * @param nodes       positions (or playouts) examined
+     * @param cacheProbes transposition table lookups
+     * @param cacheHits   lookups that returned a usable score
+     */
+    public static void emit(String engine, int boardSize, int winLength, int moveNumber, long searchTime,
+                            long nodes, long cacheProbes, long cacheHits) {
+        var event = new AiSearchEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.engine = engine;
+        event.boardSize = boardSize;
+        event.winLength = winLength;
+        event.moveNumber = moveNumber;
+        event.searchTime = searchTime;
+        event.nodes = nodes;
+        event.cacheProbes = cacheProbes;
+        event.cacheHits = cacheHits;
+        event.commit();
+    }
+}
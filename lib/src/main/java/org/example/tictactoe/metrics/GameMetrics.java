@@ -0,0 +1,50 @@
+package org.example.tictactoe.metrics;
+
+/**
+ * Service provider interface receiving measurements from games and AIs.
+ * <p>
+ * Implementations are called on the threads that play, possibly concurrently, so they must be
+ * thread-safe and cheap. Every callback has an empty default, and games skip taking timestamps
+ * entirely when {@link #isEnabled()} is false, so {@link #NONE} costs nothing measurable.
+ * An implementation is activated with {@link Metrics#install(GameMetrics)} or by registering it
+ * as a {@link java.util.ServiceLoader} provider of this interface.
+ */
+public interface GameMetrics {
+
+    /** Metrics that record nothing; the default. */
+    GameMetrics NONE = new GameMetrics() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    };
+
+    /**
+     * Tells whether the callbacks do anything; callers skip measuring when they do not.
+     *
+     * @return true if measurements are recorded
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Called after a move has been applied to a game.
+     *
+     * @param nanos time taken to validate and apply the move
+     */
+    default void moveApplied(long nanos) {
+    }
+
+    /**
+     * Called after an AI has chosen a move.
+     *
+     * @param engine      short name of the AI
+     * @param nanos       time taken to choose the move
+     * @param nodes       positions (or playouts) examined
+     * @param cacheProbes transposition table lookups
+     * @param cacheHits   lookups that returned a usable score
+     */
+    default void aiDecision(String engine, long nanos, long nodes, long cacheProbes, long cacheHits) {
+    }
+}
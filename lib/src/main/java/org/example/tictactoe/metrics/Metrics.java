@@ -0,0 +1,39 @@
+package org.example.tictactoe.metrics;
+
+import java.util.Objects;
+import java.util.ServiceLoader;
+
+/**
+ * Holds the {@link GameMetrics} games report to.
+ * <p>
+ * The initial value is the first {@link ServiceLoader} provider of {@link GameMetrics} on the class path,
+ * or {@link GameMetrics#NONE} if there is none. Every game reads the current metrics once, when it is created,
+ * so installing new metrics affects the games created afterwards.
+ */
+public final class Metrics {
+
+    private static volatile GameMetrics current = ServiceLoader.load(GameMetrics.class)
+            .findFirst()
+            .orElse(GameMetrics.NONE);
+
+    private Metrics() {
+    }
+
+    /**
+     * Returns the metrics new games report to.
+     *
+     * @return current metrics, never {@code null}
+     */
+    public static GameMetrics current() {
+        return current;
+    }
+
+    /**
+     * Makes games created from now on report to the given metrics.
+     *
+     * @param metrics metrics to install; {@link GameMetrics#NONE} to disable reporting
+     */
+    public static void install(GameMetrics metrics) {
+        current = Objects.requireNonNull(metrics, "metrics");
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.tictactoe.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link GameMetrics} that aggregates all measurements in memory.
+ * <p>
+ * Counters are striped {@link LongAdder}s and latencies go into {@link LatencyHistogram}s,
+ * so any number of threads can report without contending on a single word.
+ * Reads are cheap enough to be polled by a monitoring thread.
+ */
+public final class RecordingMetrics implements GameMetrics {
+
+    private final LongAdder moves = new LongAdder();
+    private final LongAdder aiDecisions = new LongAdder();
+    private final LongAdder searchNodes = new LongAdder();
+    private final LongAdder cacheProbes = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LatencyHistogram moveLatency = new LatencyHistogram();
+    private final LatencyHistogram decisionLatency = new LatencyHistogram();
+
+    @Override
+    public void moveApplied(long nanos) {
+        moves.increment();
+        moveLatency.record(nanos);
+    }
+
+    @Override
+    public void aiDecision(String engine, long nanos, long nodes, long cacheProbes, long cacheHits) {
+        aiDecisions.increment();
+        searchNodes.add(nodes);
+        this.cacheProbes.add(cacheProbes);
+        this.cacheHits.add(cacheHits);
+        decisionLatency.record(nanos);
+    }
+
+    /**
+     * Returns the number of moves applied to games.
+     *
+     * @return move count
+     */
+    public long getMoves() {
+        return moves.sum();
+    }
+
+    /**
+     * Returns the number of moves chosen by AIs.
+     *
+     * @return decision count
+     */
+    public long getAiDecisions() {
+        return aiDecisions.sum();
+    }
+
+    /**
+     * Returns the number of positions (or playouts) examined by all AI decisions.
+     *
+     * @return node count
+     */
+    public long getSearchNodes() {
+        return searchNodes.sum();
+    }
+
+    /**
+     * Returns the number of transposition table lookups.
+     *
+     * @return probe count
+     */
+    public long getCacheProbes() {
+        return cacheProbes.sum();
+    }
+
+    /**
+     * Returns the number of transposition table lookups that returned a usable score.
+     *
+     * @return hit count
+     */
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    /**
+     * Returns the latencies of applying moves, in nanoseconds.
+     *
+     * @return live histogram
+     */
+    public LatencyHistogram getMoveLatency() {
+        return moveLatency;
+    }
+
+    /**
+     * Returns the latencies of AI decisions, in nanoseconds.
+     *
+     * @return live histogram
+     */
+    public LatencyHistogram getDecisionLatency() {
+        return decisionLatency;
+    }
+
+    /** Clears all counters and histograms. */
+    public void reset() {
+        moves.reset();
+        aiDecisions.reset();
+        searchNodes.reset();
+        cacheProbes.reset();
+        cacheHits.reset();
+        moveLatency.reset();
+        decisionLatency.reset();
+    }
+}
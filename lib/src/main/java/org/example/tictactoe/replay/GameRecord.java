@@ -0,0 +1,110 @@
+package org.example.tictactoe.replay;
+
+import org.example.tictactoe.enums.GameState;
+import org.example.tictactoe.games.TicTacToeGame;
+
+import java.util.Arrays;
+
+/**
+ * Complete, immutable description of a played game: the board geometry,
+ * the moves in the order they were played and the final state.
+ *
+ * @param size      side length of the board
+ * @param winLength number of marks in a row required to win
+ * @param result    state of the game after the last move
+ * @param moves     cell indices {@code row * size + col} of the moves, X's first
+ */
+public record GameRecord(int size, int winLength, GameState result, int[] moves) {
+
+    /**
+     * Validates the record and takes a defensive copy of the moves.
+     *
+     * @throws IllegalArgumentException if the geometry is invalid or a move lies outside the board
+     */
+    public GameRecord {
+        if (size <= 0 || winLength <= 0 || winLength > size) {
+            throw new IllegalArgumentException("Invalid geometry: size " + size + ", win length " + winLength);
+        }
+        moves = moves.clone();
+        for (int move : moves) {
+            if (move < 0 || move >= size * size) {
+                throw new IllegalArgumentException("Move outside the board: " + move);
+            }
+        }
+    }
+
+    /**
+     * Records the moves played so far in a game.
+     *
+     * @param game game to record
+     * @return record of the game's geometry, history and current state
+     */
+    public static GameRecord of(TicTacToeGame game) {
+        return new GameRecord(game.getBoard().getSize(), game.getBoard().getWinLength(),
+                game.getGameState(), game.getMoveHistory());
+    }
+
+    /**
+     * Returns the moves of the game.
+     *
+     * @return a copy of the cell indices
+     */
+    @Override
+    public int[] moves() {
+        return moves.clone();
+    }
+
+    /**
+     * Returns the number of moves of the game.
+     *
+     * @return move count
+     */
+    public int moveCount() {
+        return moves.length;
+    }
+
+    /**
+     * Plays the recorded moves through {@link TicTacToeGame#move(int, int)} on a new game.
+     *
+     * @return the replayed game
+     * @throws IllegalStateException if a move is rejected or the replay ends in a different state than recorded
+     */
+    public TicTacToeGame replay() {
+        var game = new TicTacToeGame("Player X", "Player O", size, winLength);
+        if (result == GameState.NOT_STARTED) {
+            if (moves.length > 0) {
+                throw new IllegalStateException("Game that has not started cannot have moves");
+            }
+            return game;
+        }
+        game.start();
+        try {
+            for (int move : moves) {
+                game.move(move / size, move % size);
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Recorded move rejected: " + e.getMessage(), e);
+        }
+        if (game.getGameState() != result) {
+            throw new IllegalStateException("Replay ended in " + game.getGameState() + ", recorded " + result);
+        }
+        return game;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof GameRecord other && size == other.size && winLength == other.winLength
+                && result == other.result && Arrays.equals(moves, other.moves);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * (31 * size + winLength) + result.hashCode()) + Arrays.hashCode(moves);
+    }
+
+    @Override
+    public String toString() {
+        return "GameRecord[size=" + size + ", winLength=" + winLength + ", result=" + result
+                + ", moves=" + Arrays.toString(moves) + "]";
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.tictactoe.replay;
+
+/**
+ * Constants of the binary game-record file format.
+ * <p>
+ * A file starts with the four magic bytes {@code TTTR} and a version byte, followed by any number
+ * of records. Every record consists of the board size, the win length, the ordinal of the final
+ * {@link org.example.tictactoe.enums.GameState} and the move count, followed by the moves as
+ * cell indices {@code row * size + col}. Moves take one byte each on boards of up to
+ * {@value #MAX_BYTE_CELLS} cells (a classic game is at most 13 bytes); on larger boards, and for
+ * every other field, numbers are unsigned LEB128 varints (7 bits per byte, low bits first,
+ * high bit set on all but the last byte).
+ */
+final class GameRecordFormat {
+
+    /** Magic bytes opening every file. */
+    static final byte[] MAGIC = {'T', 'T', 'T', 'R'};
+
+    /** Version of the format written by this implementation. */
+    static final byte VERSION = 1;
+
+    /** Length of the file header. */
+    static final int HEADER_LENGTH = MAGIC.length + 1;
+
+    /** Largest number of cells whose moves are stored as single bytes. */
+    static final int MAX_BYTE_CELLS = 256;
+
+    /** Size of the I/O buffers. */
+    static final int BUFFER_SIZE = 1 << 16;
+
+    private GameRecordFormat() {
+    }
+}
@@ -0,0 +1,184 @@
+package org.example.tictactoe.replay;
+
+import org.example.tictactoe.boards.TicTacToeBoard;
+import org.example.tictactoe.enums.GameState;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Streams {@link GameRecord}s from a channel in the {@link GameRecordFormat binary record format}.
+ * <p>
+ * The channel is read through a direct buffer in large chunks, so files of any size are
+ * processed with constant memory. A reader is not thread-safe.
+ */
+public class GameRecordReader implements Closeable {
+
+    private static final GameState[] STATES = GameState.values();
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(GameRecordFormat.BUFFER_SIZE);
+
+    /** Move buffer reused between records. */
+    private int[] moves = new int[GameRecordFormat.MAX_BYTE_CELLS];
+
+    /**
+     * Creates a reader and checks the file header at the start of the channel.
+     *
+     * @param channel source; closed together with the reader
+     * @throws IOException if reading fails or the channel does not start with a record file header
+     */
+    public GameRecordReader(ReadableByteChannel channel) throws IOException {
+        this.channel = channel;
+        buffer.limit(0);
+        if (!this.fill(GameRecordFormat.HEADER_LENGTH)) {
+            throw new StreamCorruptedException("Missing game record header");
+        }
+        checkHeader(buffer);
+    }
+
+    /**
+     * Opens a record file for reading.
+     *
+     * @param path record file
+     * @return reader positioned at the first record
+     * @throws IOException if the file cannot be opened or is not a record file
+     */
+    public static GameRecordReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new GameRecordReader(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return the record, or {@code null} at the end of the stream
+     * @throws IOException if reading fails or the stream is malformed or truncated
+     */
+    public GameRecord next() throws IOException {
+        if (!this.fill(1)) {
+            return null;
+        }
+        int size = this.readVarint();
+        int winLength = this.readVarint();
+        // checked before the move count is trusted, so a corrupt size cannot size the move buffer
+        if (size <= 0 || size > TicTacToeBoard.MAX_SIZE || winLength <= 0 || winLength > size) {
+            throw new StreamCorruptedException("Malformed game record: size " + size + ", win length " + winLength);
+        }
+        int state = this.readVarint();
+        int count = this.readVarint();
+        if (state < 0 || state >= STATES.length || count < 0 || count > size * size) {
+            throw new StreamCorruptedException("Malformed game record");
+        }
+        if (count > moves.length) {
+            moves = new int[Math.max(count, moves.length * 2)];
+        }
+        boolean singleBytes = size * size <= GameRecordFormat.MAX_BYTE_CELLS;
+        for (int i = 0; i < count; i++) {
+            moves[i] = singleBytes ? this.readByte() : this.readVarint();
+        }
+        try {
+            return new GameRecord(size, winLength, STATES[state], Arrays.copyOf(moves, count));
+        } catch (IllegalArgumentException e) {
+            throw new StreamCorruptedException("Malformed game record: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Passes every remaining record to the action.
+     *
+     * @param action callback receiving each record in file order
+     * @return number of records read
+     * @throws IOException if reading fails or the stream is malformed or truncated
+     */
+    public long forEach(Consumer<GameRecord> action) throws IOException {
+        long count = 0;
+        for (GameRecord record = this.next(); record != null; record = this.next()) {
+            action.accept(record);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Closes the channel.
+     *
+     * @throws IOException if closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Checks and consumes the file header at the buffer's position.
+     *
+     * @param header buffer holding at least the header
+     * @throws StreamCorruptedException if the magic bytes or the version do not match
+     */
+    static void checkHeader(ByteBuffer header) throws StreamCorruptedException {
+        if (header.remaining() < GameRecordFormat.HEADER_LENGTH) {
+            throw new StreamCorruptedException("Missing game record header");
+        }
+        for (byte magic : GameRecordFormat.MAGIC) {
+            if (header.get() != magic) {
+                throw new StreamCorruptedException("Not a game record file");
+            }
+        }
+        byte version = header.get();
+        if (version != GameRecordFormat.VERSION) {
+            throw new StreamCorruptedException("Unsupported game record version: " + version);
+        }
+    }
+
+    private int readVarint() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = this.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Varint too long");
+    }
+
+    private int readByte() throws IOException {
+        if (!this.fill(1)) {
+            throw new EOFException("Truncated game record");
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    /** Makes at least {@code count} bytes available in the buffer; false if the stream ends first. */
+    private boolean fill(int count) throws IOException {
+        if (buffer.remaining() >= count) {
+            return true;
+        }
+        buffer.compact();
+        try {
+            while (buffer.position() < count) {
+                if (channel.read(buffer) < 0) {
+                    return false;
+                }
+            }
+        } finally {
+            buffer.flip();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.tictactoe.replay;
+
+import org.example.tictactoe.games.TicTacToeGame;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streams {@link GameRecord}s to a channel in the {@link GameRecordFormat binary record format}.
+ * <p>
+ * Records are encoded into a direct buffer that is written out whenever it fills up and on
+ * {@link #flush()} or {@link #close()}, so appending millions of games costs few system calls.
+ * A writer is not thread-safe.
+ */
+public class GameRecordWriter implements Closeable {
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(GameRecordFormat.BUFFER_SIZE);
+
+    /**
+     * Creates a writer that starts a new record stream on the channel by writing the file header.
+     *
+     * @param channel destination; closed together with the writer
+     */
+    public GameRecordWriter(WritableByteChannel channel) {
+        this(channel, true);
+    }
+
+    private GameRecordWriter(WritableByteChannel channel, boolean writeHeader) {
+        this.channel = channel;
+        if (writeHeader) {
+            buffer.put(GameRecordFormat.MAGIC).put(GameRecordFormat.VERSION);
+        }
+    }
+
+    /**
+     * Opens a file for appending records, creating it with a header if it does not exist or is empty.
+     *
+     * @param path record file
+     * @return writer positioned at the end of the file
+     * @throws IOException if the file cannot be opened or is not a record file
+     */
+    public static GameRecordWriter append(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                return new GameRecordWriter(channel, true);
+            }
+            ByteBuffer header = ByteBuffer.allocate(GameRecordFormat.HEADER_LENGTH);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // keep reading until the header is complete or the file ends
+            }
+            GameRecordReader.checkHeader(header.flip());
+            channel.position(channel.size());
+            return new GameRecordWriter(channel, false);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends the record of a game.
+     *
+     * @param game game whose history and state are recorded
+     * @throws IOException if writing to the channel fails
+     */
+    public void write(TicTacToeGame game) throws IOException {
+        this.write(GameRecord.of(game));
+    }
+
+    /**
+     * Appends a record.
+     *
+     * @param record record to write
+     * @throws IOException if writing to the channel fails
+     */
+    public void write(GameRecord record) throws IOException {
+        this.putVarint(record.size());
+        this.putVarint(record.winLength());
+        this.putVarint(record.result().ordinal());
+        int[] moves = record.moves();
+        this.putVarint(moves.length);
+        boolean singleBytes = record.size() * record.size() <= GameRecordFormat.MAX_BYTE_CELLS;
+        for (int move : moves) {
+            if (singleBytes) {
+                this.putByte(move);
+            } else {
+                this.putVarint(move);
+            }
+        }
+    }
+
+    /**
+     * Writes all buffered records to the channel.
+     *
+     * @throws IOException if writing to the channel fails
+     */
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Flushes the buffered records and closes the channel.
+     *
+     * @throws IOException if writing to or closing the channel fails
+     */
+    @Override
+    public void close() throws IOException {
+        try (channel) {
+            this.flush();
+        }
+    }
+
+    private void putVarint(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            this.putByte(value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        this.putByte(value);
+    }
+
+    private void putByte(int value) throws IOException {
+        if (!buffer.hasRemaining()) {
+            this.flush();
+        }
+        buffer.put((byte) value);
+    }
+}
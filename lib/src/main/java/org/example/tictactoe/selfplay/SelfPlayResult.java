@@ -0,0 +1,36 @@
+package org.example.tictactoe.selfplay;
+
+/**
+ * Aggregate statistics of a batch of self-play games.
+ *
+ * @param games             number of finished games
+ * @param xWins             games won by the X player
+ * @param oWins             games won by the O player
+ * @param draws             drawn games
+ * @param moves             total number of moves played
+ * @param elapsedNanos      wall-clock duration of the whole batch
+ * @param medianMoveNanos   50th percentile of the time an AI took to choose a move; percentiles are
+ *                          histogram values, at most about 3% above the recorded times
+ * @param p90MoveNanos      90th percentile of the move decision time
+ * @param p99MoveNanos      99th percentile of the move decision time
+ * @param maxMoveNanos      slowest move decision
+ */
+public record SelfPlayResult(int games, int xWins, int oWins, int draws, long moves, long elapsedNanos,
+                             long medianMoveNanos, long p90MoveNanos, long p99MoveNanos, long maxMoveNanos) {
+
+    /**
+     * Returns the throughput of the batch.
+     *
+     * @return finished games per second of wall-clock time
+     */
+    public double gamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d games (X %d / O %d / draw %d), %.1f games/s, move latency p50 %d ns, p90 %d ns, p99 %d ns, max %d ns",
+                games, xWins, oWins, draws, this.gamesPerSecond(),
+                medianMoveNanos, p90MoveNanos, p99MoveNanos, maxMoveNanos);
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.tictactoe.selfplay;
+
+import org.example.tictactoe.enums.GameState;
+import org.example.tictactoe.enums.PlayerType;
+import org.example.tictactoe.games.AiMove;
+import org.example.tictactoe.games.TicTacToeGame;
+import org.example.tictactoe.metrics.LatencyHistogram;
+import org.example.tictactoe.utils.Point;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Headless driver that pits two AI implementations against each other for a batch of games.
+ * <p>
+ * Every game creates one AI game instance per side; both instances receive every move so that
+ * each AI always sees the current position, and the AI of the player to move picks the next move.
+ * Games are spread over a fixed thread pool and the outcome counts, throughput and
+ * move decision latencies are aggregated into a {@link SelfPlayResult}. Latencies are recorded into one
+ * shared {@link LatencyHistogram}, so the memory of a run does not grow with its length.
+ */
+public class SelfPlayRunner {
+
+    private final Supplier<? extends TicTacToeGame> playerX;
+    private final Supplier<? extends TicTacToeGame> playerO;
+    private final int threads;
+
+    /**
+     * Creates a runner.
+     *
+     * @param playerX factory of the AI playing X; called once per game
+     * @param playerO factory of the AI playing O; called once per game
+     * @param threads number of games played concurrently
+     * @param <X>     type of the X AI
+     * @param <O>     type of the O AI
+     * @throws IllegalArgumentException if the thread count is not positive
+     */
+    public <X extends TicTacToeGame & AiMove, O extends TicTacToeGame & AiMove> SelfPlayRunner(
+            Supplier<X> playerX, Supplier<O> playerO, int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive: " + threads);
+        }
+        this.playerX = playerX;
+        this.playerO = playerO;
+        this.threads = threads;
+    }
+
+    /**
+     * Plays the given number of games and aggregates their statistics.
+     *
+     * @param games number of games to play
+     * @return aggregated statistics
+     * @throws IllegalArgumentException if the game count is negative
+     * @throws IllegalStateException    if an AI chose an invalid move or a game failed otherwise
+     */
+    public SelfPlayResult run(int games) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Game count must not be negative: " + games);
+        }
+        long start = System.nanoTime();
+        var latencies = new LatencyHistogram();
+        List<Worker> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                int share = games / threads + (i < games % threads ? 1 : 0);
+                var worker = new Worker(share, latencies);
+                workers.add(worker);
+                futures.add(executor.submit(worker));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Self-play game failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Self-play interrupted", e);
+        }
+        long elapsed = System.nanoTime() - start;
+        return aggregate(workers, latencies, games, elapsed);
+    }
+
+    private static SelfPlayResult aggregate(List<Worker> workers, LatencyHistogram latencies,
+                                            int games, long elapsedNanos) {
+        int xWins = 0;
+        int oWins = 0;
+        int draws = 0;
+        long moves = 0;
+        for (Worker worker : workers) {
+            xWins += worker.xWins;
+            oWins += worker.oWins;
+            draws += worker.draws;
+            moves += worker.moveCount;
+        }
+        return new SelfPlayResult(games, xWins, oWins, draws, moves, elapsedNanos,
+                latencies.getValueAtPercentile(50), latencies.getValueAtPercentile(90),
+                latencies.getValueAtPercentile(99), latencies.getMax());
+    }
+
+    /** Plays a share of the games on one pool thread, keeping its counters thread-confined. */
+    private final class Worker implements Runnable {
+
+        private final int games;
+        private final LatencyHistogram latencies;
+        private long moveCount;
+        private int xWins;
+        private int oWins;
+        private int draws;
+
+        private Worker(int games, LatencyHistogram latencies) {
+            this.games = games;
+            this.latencies = latencies;
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < games; i++) {
+                switch (this.playGame()) {
+                    case X_WINS -> xWins++;
+                    case O_WINS -> oWins++;
+                    default -> draws++;
+                }
+            }
+        }
+
+        private GameState playGame() {
+            TicTacToeGame x = playerX.get();
+            TicTacToeGame o = playerO.get();
+            x.start();
+            o.start();
+            while (x.getGameState() == GameState.IN_PROGRESS) {
+                TicTacToeGame mover = x.getCurrentPlayerType() == PlayerType.X ? x : o;
+                long start = System.nanoTime();
+                Point point = ((AiMove) mover).makeMove();
+                latencies.record(System.nanoTime() - start);
+                moveCount++;
+                if (point == null) {
+                    throw new IllegalStateException("AI for " + x.getCurrentPlayerType() + " returned no move");
+                }
+                x.move(point.row(), point.col());
+                o.move(point.row(), point.col());
+            }
+            return x.getGameState();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package org.example.tictactoe.solver;
+
+import org.example.tictactoe.boards.TicTacToeBoard;
+import org.example.tictactoe.enums.PlayerType;
+
+/**
+ * Perfect-play table of the classic 3x3 game.
+ * <p>
+ * Every position reachable in a legal game is solved once, on first use of {@link #classic()},
+ * and stored in a flat array indexed directly by the players' bit masks
+ * ({@code xMask | oMask << 9}), so looking up the value or the best moves of a position
+ * is a single array read without any search or allocation.
+ * The side to move is implied by the mark counts: X moves first.
+ */
+public final class SolutionTable {
+
+    /** Value returned by {@link #bestMove(long, long)} when no move is available or the position is unknown. */
+    public static final int NO_MOVE = -1;
+
+    private static final int CELLS = TicTacToeBoard.SIZE * TicTacToeBoard.SIZE;
+    private static final short SOLVED = (short) 0x8000;
+    private static final int VALUE_SHIFT = CELLS;
+    private static final int BEST_MOVES_MASK = (1 << CELLS) - 1;
+
+    /** Solved entries: best-move cells in the low bits, value + 1 above them, {@link #SOLVED} flag on top. */
+    private final short[] entries = new short[1 << 2 * CELLS];
+
+    /** Empty board used to read the static move ordering for tie breaks. */
+    private final TicTacToeBoard ordering = new TicTacToeBoard();
+
+    /** Number of positions stored in the table. */
+    private int positions;
+
+    private SolutionTable() {
+        this.solve(new TicTacToeBoard(), PlayerType.X, -1);
+    }
+
+    /**
+     * Returns the table of the classic 3x3 game, building it on first use.
+     *
+     * @return shared solution table
+     */
+    public static SolutionTable classic() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Returns the number of distinct positions reachable in a legal game (including finished ones).
+     *
+     * @return number of solved positions
+     */
+    public int size() {
+        return positions;
+    }
+
+    /**
+     * Checks whether the position is reachable in a legal game and therefore present in the table.
+     *
+     * @param xMask cells occupied by X
+     * @param oMask cells occupied by O
+     * @return true if the position is solved
+     */
+    public boolean contains(long xMask, long oMask) {
+        return (this.entry(xMask, oMask) & SOLVED) != 0;
+    }
+
+    /**
+     * Returns the game value of a position under perfect play by both sides.
+     *
+     * @param xMask cells occupied by X
+     * @param oMask cells occupied by O
+     * @return 1 if O wins, -1 if X wins, 0 for a draw
+     * @throws IllegalArgumentException if the position is not reachable in a legal game
+     */
+    public int value(long xMask, long oMask) {
+        short entry = this.entry(xMask, oMask);
+        if ((entry & SOLVED) == 0) {
+            throw new IllegalArgumentException("Position is not reachable in a legal game");
+        }
+        return ((entry >>> VALUE_SHIFT) & 0b11) - 1;
+    }
+
+    /**
+     * Returns all moves that keep the best achievable value for the side to move.
+     *
+     * @param xMask cells occupied by X
+     * @param oMask cells occupied by O
+     * @return bit mask of optimal cells; 0 if the game is over or the position is unknown
+     */
+    public int bestMoves(long xMask, long oMask) {
+        return this.entry(xMask, oMask) & BEST_MOVES_MASK;
+    }
+
+    /**
+     * Returns one optimal move for the side to move, preferring center, then corners, then edges.
+     *
+     * @param xMask cells occupied by X
+     * @param oMask cells occupied by O
+     * @return cell index {@code row * 3 + col}, or {@link #NO_MOVE} if the game is over or the position is unknown
+     */
+    public int bestMove(long xMask, long oMask) {
+        int moves = this.bestMoves(xMask, oMask);
+        for (int rank = 0; rank < CELLS && moves != 0; rank++) {
+            int cell = ordering.getOrderedCell(rank);
+            if ((moves & 1 << cell) != 0) {
+                return cell;
+            }
+        }
+        return NO_MOVE;
+    }
+
+    private short entry(long xMask, long oMask) {
+        if (((xMask | oMask) & ~(long) BEST_MOVES_MASK) != 0) {
+            return 0;
+        }
+        return entries[(int) (xMask | oMask << CELLS)];
+    }
+
+    /**
+     * Solves the position on the board and records it.
+     *
+     * @param board    working board (mutated and reverted during solving)
+     * @param toMove   player to move in this position
+     * @param lastCell cell of the last move, or -1 for the empty board
+     * @return value of the position: 1 if O wins, -1 if X wins, 0 for a draw
+     */
+    private int solve(TicTacToeBoard board, PlayerType toMove, int lastCell) {
+        int index = (int) (board.getMask(PlayerType.X) | board.getMask(PlayerType.O) << CELLS);
+        if ((entries[index] & SOLVED) != 0) {
+            return ((entries[index] >>> VALUE_SHIFT) & 0b11) - 1;
+        }
+
+        PlayerType lastPlayer = toMove.getOpponent();
+        int value;
+        int bestMoves = 0;
+        if (lastCell >= 0 && board.checkWin(lastCell / TicTacToeBoard.SIZE, lastCell % TicTacToeBoard.SIZE, lastPlayer)) {
+            value = lastPlayer == PlayerType.O ? 1 : -1;
+        } else if (board.checkDraw()) {
+            value = 0;
+        } else {
+            value = toMove == PlayerType.O ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+            for (int cell = 0; cell < CELLS; cell++) {
+                int row = cell / TicTacToeBoard.SIZE;
+                int col = cell % TicTacToeBoard.SIZE;
+                if (board.getPlayer(row, col) != null) {
+                    continue;
+                }
+                board.move(row, col, toMove);
+                int score = this.solve(board, toMove.getOpponent(), cell);
+                board.move(row, col, null);
+
+                boolean better = toMove == PlayerType.O ? score > value : score < value;
+                if (better) {
+                    value = score;
+                    bestMoves = 1 << cell;
+                } else if (score == value) {
+                    bestMoves |= 1 << cell;
+                }
+            }
+        }
+
+        entries[index] = (short) (SOLVED | (value + 1) << VALUE_SHIFT | bestMoves);
+        positions++;
+        return value;
+    }
+
+    /** Lazily initialized holder of the classic table. */
+    private static final class Holder {
+        private static final SolutionTable INSTANCE = new SolutionTable();
+    }
+}
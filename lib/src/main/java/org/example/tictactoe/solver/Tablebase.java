@@ -0,0 +1,247 @@
+package org.example.tictactoe.solver;
+
+import org.example.tictactoe.boards.TicTacToeBoard;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only perfect-play table of a board of up to 4x4 cells, memory-mapped from a file written
+ * by {@link TablebaseGenerator}.
+ * <p>
+ * Every position is addressed by its ternary index: cell {@code i} contributes {@code 3^i} if X
+ * occupies it and {@code 2 * 3^i} if O does. The file stores two bits per index (unreachable,
+ * X wins, draw, O wins) after a 16-byte header holding the magic bytes {@code TTTB}, the format
+ * version, the board size, the win length and the number of reachable positions.
+ * <p>
+ * Opening a table only maps the file, so it is immediate regardless of the table size; pages are
+ * loaded by the operating system on first access and shared by every process mapping the same file.
+ * Lookups are thread-safe. The side to move is implied by the mark counts: X moves first.
+ */
+public final class Tablebase {
+
+    /** Value returned by {@link #bestMove(long, long)} when no move is available or the position is unknown. */
+    public static final int NO_MOVE = -1;
+
+    /** Largest side length a table can be built for. */
+    public static final int MAX_SIZE = 4;
+
+    static final byte[] MAGIC = {'T', 'T', 'T', 'B'};
+    static final byte VERSION = 1;
+    static final int HEADER_LENGTH = 16;
+
+    /** Entry code of a position that cannot arise in a legal game. */
+    static final int UNREACHABLE = 0;
+
+    private final MappedByteBuffer entries;
+    private final int size;
+    private final int winLength;
+    private final long positions;
+    private final int[] powers;
+
+    /** Empty board used to read the static move ordering for tie breaks. */
+    private final TicTacToeBoard ordering;
+
+    private Tablebase(MappedByteBuffer entries, int size, int winLength, long positions) {
+        this.entries = entries;
+        this.size = size;
+        this.winLength = winLength;
+        this.positions = positions;
+        this.powers = powersOfThree(size * size);
+        this.ordering = new TicTacToeBoard(size, winLength);
+    }
+
+    /**
+     * Maps a table file into memory.
+     *
+     * @param path file written by {@link TablebaseGenerator#generate(Path)}
+     * @return the table
+     * @throws IOException if the file cannot be read or is not a valid table
+     */
+    public static Tablebase open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.remaining() < HEADER_LENGTH) {
+                throw new StreamCorruptedException("Missing tablebase header");
+            }
+            for (int i = 0; i < MAGIC.length; i++) {
+                if (buffer.get(i) != MAGIC[i]) {
+                    throw new StreamCorruptedException("Not a tablebase file");
+                }
+            }
+            if (buffer.get(4) != VERSION) {
+                throw new StreamCorruptedException("Unsupported tablebase version: " + buffer.get(4));
+            }
+            int size = buffer.get(5);
+            int winLength = buffer.get(6);
+            if (size <= 0 || size > MAX_SIZE || winLength <= 0 || winLength > size) {
+                throw new StreamCorruptedException("Invalid tablebase geometry: " + size + ", " + winLength);
+            }
+            if (channel.size() != fileLength(size)) {
+                throw new StreamCorruptedException("Tablebase file has the wrong length");
+            }
+            return new Tablebase(buffer, size, winLength, buffer.getLong(8));
+        }
+    }
+
+    /**
+     * Returns the side length of the board the table was built for.
+     *
+     * @return board size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the win length the table was built for.
+     *
+     * @return number of marks in a row required to win
+     */
+    public int getWinLength() {
+        return winLength;
+    }
+
+    /**
+     * Returns the number of distinct positions reachable in a legal game (including finished ones).
+     *
+     * @return number of solved positions
+     */
+    public long size() {
+        return positions;
+    }
+
+    /**
+     * Checks whether the position is reachable in a legal game and therefore present in the table.
+     *
+     * @param xMask cells occupied by X
+     * @param oMask cells occupied by O
+     * @return true if the position is solved
+     */
+    public boolean contains(long xMask, long oMask) {
+        return this.entry(xMask, oMask) != UNREACHABLE;
+    }
+
+    /**
+     * Returns the game value of a position under perfect play by both sides.
+     *
+     * @param xMask cells occupied by X
+     * @param oMask cells occupied by O
+     * @return 1 if O wins, -1 if X wins, 0 for a draw
+     * @throws IllegalArgumentException if the position is not reachable in a legal game
+     */
+    public int value(long xMask, long oMask) {
+        int entry = this.entry(xMask, oMask);
+        if (entry == UNREACHABLE) {
+            throw new IllegalArgumentException("Position is not reachable in a legal game");
+        }
+        return valueOf(entry);
+    }
+
+    /**
+     * Returns one optimal move for the side to move, breaking ties by the board's static move ordering.
+     * Finished positions have no move.
+     *
+     * @param xMask cells occupied by X
+     * @param oMask cells occupied by O
+     * @return cell index {@code row * size + col}, or {@link #NO_MOVE} if the game is over or the position is unknown
+     */
+    public int bestMove(long xMask, long oMask) {
+        int index = this.index(xMask, oMask);
+        if (index < 0 || entryAt(index) == UNREACHABLE) {
+            return NO_MOVE;
+        }
+        boolean xToMove = Long.bitCount(xMask) == Long.bitCount(oMask);
+        int bestMove = NO_MOVE;
+        int bestValue = 0;
+        for (int rank = 0; rank < size * size; rank++) {
+            int cell = ordering.getOrderedCell(rank);
+            if (((xMask | oMask) >>> cell & 1) != 0) {
+                continue;
+            }
+            int child = this.entryAt(index + (xToMove ? powers[cell] : 2 * powers[cell]));
+            if (child == UNREACHABLE) {
+                // the position itself is finished, so no successor is part of a legal game
+                return NO_MOVE;
+            }
+            int value = xToMove ? -valueOf(child) : valueOf(child);
+            if (bestMove == NO_MOVE || value > bestValue) {
+                bestMove = cell;
+                bestValue = value;
+            }
+        }
+        return bestMove;
+    }
+
+    /** Returns the ternary index of a position, or -1 if a mask has cells outside the board. */
+    private int index(long xMask, long oMask) {
+        int cells = size * size;
+        if (((xMask | oMask) >>> cells) != 0 || (xMask & oMask) != 0) {
+            return -1;
+        }
+        int index = 0;
+        for (int cell = 0; cell < cells; cell++) {
+            if ((xMask >>> cell & 1) != 0) {
+                index += powers[cell];
+            } else if ((oMask >>> cell & 1) != 0) {
+                index += 2 * powers[cell];
+            }
+        }
+        return index;
+    }
+
+    private int entry(long xMask, long oMask) {
+        int index = this.index(xMask, oMask);
+        return index < 0 ? UNREACHABLE : this.entryAt(index);
+    }
+
+    private int entryAt(int index) {
+        return entries.get(HEADER_LENGTH + (index >>> 2)) >>> ((index & 3) << 1) & 0b11;
+    }
+
+    /**
+     * Converts a game value to its two-bit entry code.
+     *
+     * @param value 1 if O wins, -1 if X wins, 0 for a draw
+     * @return entry code, never {@link #UNREACHABLE}
+     */
+    static int codeOf(int value) {
+        return value + 2;
+    }
+
+    private static int valueOf(int code) {
+        return code - 2;
+    }
+
+    /**
+     * Returns the length of a table file for the given board size.
+     *
+     * @param size side length of the board
+     * @return header plus packed entries, in bytes
+     */
+    static long fileLength(int size) {
+        return HEADER_LENGTH + (powersOfThree(size * size + 1)[size * size] + 3) / 4;
+    }
+
+    /**
+     * Returns {@code 3^0 .. 3^(count - 1)}.
+     *
+     * @param count number of powers
+     * @return powers of three
+     */
+    static int[] powersOfThree(int count) {
+        int[] powers = new int[count];
+        int power = 1;
+        for (int i = 0; i < count; i++) {
+            powers[i] = power;
+            power *= 3;
+        }
+        return powers;
+    }
+}
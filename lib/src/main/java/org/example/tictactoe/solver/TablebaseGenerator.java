@@ -0,0 +1,270 @@
+package org.example.tictactoe.solver;
+
+import org.example.tictactoe.boards.TicTacToeBoard;
+import org.example.tictactoe.enums.PlayerType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Solves every position of a board of up to 4x4 cells and writes the result as a {@link Tablebase} file.
+ * <p>
+ * Positions are grouped by the number of marks. A forward pass marks the positions reachable in
+ * a legal game, from the empty board to the full one; a retrograde pass then assigns each of them
+ * its value, from the full board back to the empty one, so the values of all successors are known
+ * when a position is solved. Within a level positions are independent, and each pass splits
+ * the level by X's marks between the workers of a {@link ForkJoinPool}.
+ * <p>
+ * The whole index space (3<sup>cells</sup> entries, about 43 million for 4x4) is held in one byte
+ * per position while solving; the file packs it to two bits per position.
+ */
+public final class TablebaseGenerator {
+
+    /** Generator-only entry code of a reachable position whose value is not known yet. */
+    private static final byte REACHABLE = 4;
+
+    private final int size;
+    private final int winLength;
+    private final int cells;
+
+    /** Ternary index contribution of every mark set, for X; doubled for O. */
+    private final int[] ternary;
+
+    /** Whether a set of marks contains a winning line. */
+    private final boolean[] hasLine;
+
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Creates a generator for the given geometry.
+     *
+     * @param size      side length of the board, at most {@value Tablebase#MAX_SIZE}
+     * @param winLength number of marks in a row required to win
+     * @throws IllegalArgumentException if the size is out of range or the win length is not in range 1..size
+     */
+    public TablebaseGenerator(int size, int winLength) {
+        if (size <= 0 || size > Tablebase.MAX_SIZE) {
+            throw new IllegalArgumentException("Board size must be in range 1.." + Tablebase.MAX_SIZE + ": " + size);
+        }
+        var board = new TicTacToeBoard(size, winLength);
+        this.size = size;
+        this.winLength = winLength;
+        this.cells = size * size;
+
+        int[] powers = Tablebase.powersOfThree(cells);
+        this.ternary = new int[1 << cells];
+        this.hasLine = new boolean[1 << cells];
+        for (int mask = 1; mask < 1 << cells; mask++) {
+            int lowest = Integer.numberOfTrailingZeros(mask);
+            int highest = 31 - Integer.numberOfLeadingZeros(mask);
+            ternary[mask] = ternary[mask & mask - 1] + powers[lowest];
+            hasLine[mask] = hasLine[mask & ~(1 << highest)] || this.lineThrough(board, mask, highest);
+        }
+    }
+
+    /**
+     * Sets the number of worker threads used to solve a level.
+     *
+     * @param parallelism number of threads, at least 1
+     * @throws IllegalArgumentException if parallelism is below 1
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Solves the board and writes the table. The file is written next to the target and moved
+     * into place when complete, so processes mapping an existing table never see a partial file.
+     *
+     * @param path destination of the table
+     * @return number of positions reachable in a legal game
+     * @throws IOException if the file cannot be written
+     */
+    public long generate(Path path) throws IOException {
+        byte[] entries = new byte[Tablebase.powersOfThree(cells + 1)[cells]];
+        long positions;
+        try (var pool = new ForkJoinPool(parallelism)) {
+            entries[0] = REACHABLE;
+            positions = 1;
+            for (int marks = 1; marks <= cells; marks++) {
+                positions += this.runLevel(pool, marks, entries, true);
+            }
+            for (int marks = cells; marks >= 0; marks--) {
+                this.runLevel(pool, marks, entries, false);
+            }
+        }
+        this.write(path, entries, positions);
+        return positions;
+    }
+
+    /**
+     * Runs one pass over all positions with the given number of marks.
+     *
+     * @return number of reachable positions on the level (forward pass only)
+     */
+    private long runLevel(ForkJoinPool pool, int marks, byte[] entries, boolean forward) throws IOException {
+        int chunks = parallelism * 4;
+        int range = 1 << cells;
+        List<Callable<Long>> tasks = new ArrayList<>(chunks);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int from = (int) ((long) range * chunk / chunks);
+            int to = (int) ((long) range * (chunk + 1) / chunks);
+            tasks.add(() -> this.solveLevel(marks, from, to, entries, forward));
+        }
+        long reachable = 0;
+        try {
+            for (Future<Long> result : pool.invokeAll(tasks)) {
+                reachable += result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Tablebase generation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Tablebase generation failed", e.getCause());
+        }
+        return reachable;
+    }
+
+    /**
+     * Processes the positions of one level whose X marks lie in the given range of masks.
+     *
+     * @param marks   number of marks on the board
+     * @param fromX   first X mask, inclusive
+     * @param toX     last X mask, exclusive
+     * @param entries index space
+     * @param forward true to mark reachable positions, false to solve them
+     * @return number of positions marked reachable
+     */
+    private long solveLevel(int marks, int fromX, int toX, byte[] entries, boolean forward) {
+        int xCount = (marks + 1) / 2;
+        int oCount = marks / 2;
+        int full = (1 << cells) - 1;
+        long reachable = 0;
+        for (int x = fromX; x < toX; x++) {
+            if (Integer.bitCount(x) != xCount) {
+                continue;
+            }
+            int free = full & ~x;
+            for (int o = free; ; o = o - 1 & free) {
+                if (Integer.bitCount(o) == oCount) {
+                    int index = ternary[x] + 2 * ternary[o];
+                    if (forward) {
+                        if (this.isReachable(marks, x, o, index, entries)) {
+                            entries[index] = REACHABLE;
+                            reachable++;
+                        }
+                    } else if (entries[index] == REACHABLE) {
+                        entries[index] = (byte) Tablebase.codeOf(this.solve(marks, x, o, index, entries));
+                    }
+                }
+                if (o == 0) {
+                    break;
+                }
+            }
+        }
+        return reachable;
+    }
+
+    /**
+     * Checks whether a position arises from a reachable, unfinished position by one move of the player
+     * who moved last.
+     */
+    private boolean isReachable(int marks, int x, int o, int index, byte[] entries) {
+        boolean xMovedLast = (marks & 1) != 0;
+        int last = xMovedLast ? x : o;
+        int other = xMovedLast ? o : x;
+        if (hasLine[other]) {
+            // the game ended before the last move
+            return false;
+        }
+        int weight = xMovedLast ? 1 : 2;
+        for (int rest = last; rest != 0; rest &= rest - 1) {
+            int bit = rest & -rest;
+            if (entries[index - weight * ternary[bit]] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the value of a reachable position: finished positions are scored directly,
+     * the others take the best value among their successors for the player to move.
+     *
+     * @return 1 if O wins, -1 if X wins, 0 for a draw
+     */
+    private int solve(int marks, int x, int o, int index, byte[] entries) {
+        boolean xMovedLast = (marks & 1) != 0;
+        if (marks > 0 && hasLine[xMovedLast ? x : o]) {
+            return xMovedLast ? -1 : 1;
+        }
+        if (marks == cells) {
+            return 0;
+        }
+        int sign = xMovedLast ? 1 : -1;
+        int weight = xMovedLast ? 2 : 1;
+        int free = (1 << cells) - 1 & ~(x | o);
+        int best = -1;
+        for (int rest = free; rest != 0 && best < 1; rest &= rest - 1) {
+            int child = entries[index + weight * ternary[rest & -rest]];
+            best = Math.max(best, sign * (child - Tablebase.codeOf(0)));
+        }
+        return sign * best;
+    }
+
+    private void write(Path path, byte[] entries, long positions) throws IOException {
+        var header = ByteBuffer.allocate(Tablebase.HEADER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+        header.put(Tablebase.MAGIC)
+                .put(Tablebase.VERSION)
+                .put((byte) size)
+                .put((byte) winLength)
+                .put((byte) 0)
+                .putLong(positions)
+                .flip();
+        byte[] packed = new byte[(entries.length + 3) / 4];
+        for (int i = 0; i < entries.length; i++) {
+            packed[i >>> 2] |= (byte) (entries[i] << ((i & 3) << 1));
+        }
+
+        Path target = path.toAbsolutePath();
+        Path temporary = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                ByteBuffer[] buffers = {header, ByteBuffer.wrap(packed)};
+                while (buffers[1].hasRemaining()) {
+                    channel.write(buffers);
+                }
+            }
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /** Checks whether the marks contain a winning line through the given cell. */
+    private boolean lineThrough(TicTacToeBoard board, int mask, int cell) {
+        for (int rest = mask; rest != 0; rest &= rest - 1) {
+            board.place(Integer.numberOfTrailingZeros(rest), PlayerType.X);
+        }
+        boolean win = board.checkWin(cell, PlayerType.X);
+        for (int rest = mask; rest != 0; rest &= rest - 1) {
+            board.remove(Integer.numberOfTrailingZeros(rest));
+        }
+        return win;
+    }
+}
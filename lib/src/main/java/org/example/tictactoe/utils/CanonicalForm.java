@@ -0,0 +1,15 @@
+package org.example.tictactoe.utils;
+
+import org.example.tictactoe.boards.TicTacToeBoard;
+import org.example.tictactoe.enums.Symmetry;
+
+/**
+ * Canonical representative of a board position together with the symmetry that produced it.
+ * Applying {@code symmetry} to the original board yields {@code board};
+ * {@code symmetry.inverse()} maps cells of the canonical board back to the original.
+ *
+ * @param board    canonical board (a new instance)
+ * @param symmetry transform applied to the original position
+ */
+public record CanonicalForm(TicTacToeBoard board, Symmetry symmetry) {
+}
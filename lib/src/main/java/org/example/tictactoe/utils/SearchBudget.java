@@ -0,0 +1,47 @@
+package org.example.tictactoe.utils;
+
+import java.time.Duration;
+
+/**
+ * Limits on the work an AI may spend on a single move.
+ * A search stops at whichever limit is reached first.
+ *
+ * @param timeLimitNanos maximum wall-clock time in nanoseconds; {@link Long#MAX_VALUE} for no limit
+ * @param nodeLimit      maximum number of visited positions; {@link Long#MAX_VALUE} for no limit
+ */
+public record SearchBudget(long timeLimitNanos, long nodeLimit) {
+
+    /** Budget without any limits. */
+    public static final SearchBudget UNLIMITED = new SearchBudget(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    /**
+     * Validates the limits.
+     *
+     * @throws IllegalArgumentException if a limit is not positive
+     */
+    public SearchBudget {
+        if (timeLimitNanos <= 0 || nodeLimit <= 0) {
+            throw new IllegalArgumentException("Search limits must be positive");
+        }
+    }
+
+    /**
+     * Creates a budget limited by wall-clock time only.
+     *
+     * @param timeLimit maximum time to spend
+     * @return time-limited budget
+     */
+    public static SearchBudget ofTime(Duration timeLimit) {
+        return new SearchBudget(timeLimit.toNanos(), Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a budget limited by the number of visited positions only.
+     *
+     * @param nodeLimit maximum number of positions to visit
+     * @return node-limited budget
+     */
+    public static SearchBudget ofNodes(long nodeLimit) {
+        return new SearchBudget(Long.MAX_VALUE, nodeLimit);
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.tictactoe;
+
+import org.example.tictactoe.enums.GameState;
+import org.example.tictactoe.enums.MoveStatus;
+import org.example.tictactoe.enums.PlayerType;
+import org.example.tictactoe.exceptions.CellOccupiedException;
+import org.example.tictactoe.exceptions.CellOutOfBoundsException;
+import org.example.tictactoe.exceptions.FalseStateException;
+import org.example.tictactoe.games.ConcurrentTicTacToeGame;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentGameTest {
+
+    @Test
+    void testPlaysLikeSequentialGame() {
+        var game = new ConcurrentTicTacToeGame("Alice", "Bob");
+        assertThrows(FalseStateException.class, () -> game.move(0, 0));
+        game.start();
+        assertThrows(FalseStateException.class, game::start);
+        assertEquals("Alice", game.getCurrentPlayerName());
+        assertEquals(GameState.IN_PROGRESS, game.move(0, 0)); // X
+        assertEquals(GameState.IN_PROGRESS, game.move(1, 0)); // O
+        assertThrows(CellOccupiedException.class, () -> game.move(0, 0));
+        assertThrows(CellOutOfBoundsException.class, () -> game.move(3, 0));
+        assertEquals(GameState.IN_PROGRESS, game.move(0, 1)); // X
+        assertEquals(GameState.IN_PROGRESS, game.move(1, 1)); // O
+        assertEquals(GameState.X_WINS, game.move(0, 2)); // X
+        assertEquals("Alice", game.getResult());
+        assertNull(game.getCurrentPlayerName());
+        assertEquals(PlayerType.O, game.getBoard().getPlayer(1, 1));
+        assertThrows(FalseStateException.class, () -> game.move(2, 2));
+    }
+
+    @Test
+    void testDrawOnLargerBoard() {
+        var game = new ConcurrentTicTacToeGame("X", "O", 4, 4);
+        game.start();
+        int[][] moves = {{0, 0}, {0, 2}, {0, 1}, {0, 3}, {1, 2}, {1, 0}, {1, 3}, {1, 1},
+                {2, 0}, {2, 2}, {2, 1}, {2, 3}, {3, 2}, {3, 0}, {3, 3}, {3, 1}};
+        GameState state = null;
+        for (int[] move : moves) {
+            state = game.move(move[0], move[1]);
+        }
+        assertEquals(GameState.DRAW, state);
+        assertEquals(16, game.getMoveCount());
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentTicTacToeGame("X", "O", 6, 4));
+    }
+
+    @Test
+    void testStaleMoveIsRejected() {
+        var game = new ConcurrentTicTacToeGame();
+        game.start();
+        long snapshot = game.snapshot();
+        assertEquals(MoveStatus.ACCEPTED, game.tryMove(snapshot, 1, 1));
+        assertEquals(MoveStatus.STALE, game.tryMove(snapshot, 1, 1));
+        assertEquals(MoveStatus.STALE, game.tryMove(snapshot, 0, 0));
+        assertEquals(MoveStatus.OUT_OF_BOUNDS, game.tryMove(snapshot, 3, 0));
+        assertEquals(MoveStatus.OCCUPIED, game.tryMove(game.snapshot(), 1, 1));
+        assertEquals(MoveStatus.OCCUPIED, game.tryMove(1, 1));
+        assertEquals(1, game.getMoveCount());
+        assertThrows(FalseStateException.class, () -> game.move(PlayerType.X, 0, 0));
+        assertEquals(GameState.IN_PROGRESS, game.move(PlayerType.O, 0, 0));
+    }
+
+    @Test
+    void testOnlyOneConcurrentMovePerTurn() throws Exception {
+        int threads = 8;
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int round = 0; round < 200; round++) {
+                var game = new ConcurrentTicTacToeGame();
+                game.start();
+                var ready = new CountDownLatch(1);
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    int cell = i;
+                    results.add(executor.submit(() -> {
+                        ready.await();
+                        try {
+                            game.move(PlayerType.X, cell / 3, cell % 3);
+                            return true;
+                        } catch (FalseStateException e) {
+                            return false;
+                        }
+                    }));
+                }
+                ready.countDown();
+                int applied = 0;
+                for (Future<Boolean> result : results) {
+                    applied += result.get() ? 1 : 0;
+                }
+                assertEquals(1, applied);
+                assertEquals(1, game.getMoveCount());
+                assertEquals(PlayerType.O, game.getCurrentPlayerType());
+            }
+        }
+    }
+}
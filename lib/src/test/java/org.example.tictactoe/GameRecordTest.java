@@ -0,0 +1,141 @@
+package org.example.tictactoe;
+
+import org.example.tictactoe.enums.GameState;
+import org.example.tictactoe.games.TicTacToeGame;
+import org.example.tictactoe.games.impl.RandomAiTicTacToeGame;
+import org.example.tictactoe.replay.GameRecord;
+import org.example.tictactoe.replay.GameRecordReader;
+import org.example.tictactoe.replay.GameRecordWriter;
+import org.example.tictactoe.utils.Point;
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GameRecordTest {
+
+    @Test
+    void testGameKeepsMoveHistory() {
+        var game = new TicTacToeGame();
+        game.start();
+        game.move(1, 1);
+        game.move(0, 2);
+        game.move(2, 0);
+        assertEquals(3, game.getMoveCount());
+        assertArrayEquals(new int[]{4, 2, 6}, game.getMoveHistory());
+    }
+
+    @Test
+    void testRoundTripAndReplay() throws IOException {
+        Path file = Files.createTempFile("games", ".ttt");
+        try {
+            List<GameRecord> written = new ArrayList<>();
+            try (var writer = new GameRecordWriter(Files.newByteChannel(file, StandardOpenOption.WRITE))) {
+                for (int i = 0; i < 10_000; i++) {
+                    GameRecord record = GameRecord.of(playRandomGame(3, 3));
+                    written.add(record);
+                    writer.write(record);
+                }
+            }
+            long moves = written.stream().mapToLong(GameRecord::moveCount).sum();
+            assertEquals(5 + 4 * written.size() + moves, Files.size(file));
+
+            List<GameRecord> read = new ArrayList<>();
+            try (var reader = GameRecordReader.open(file)) {
+                assertEquals(written.size(), reader.forEach(read::add));
+                assertNull(reader.next());
+            }
+            assertEquals(written, read);
+            for (GameRecord record : read) {
+                TicTacToeGame replayed = record.replay();
+                assertEquals(record.result(), replayed.getGameState());
+                assertArrayEquals(record.moves(), replayed.getMoveHistory());
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testAppendLargeBoardGames() throws IOException {
+        Path file = Files.createTempFile("games", ".ttt");
+        try {
+            GameRecord small = GameRecord.of(playRandomGame(3, 3));
+            GameRecord large = GameRecord.of(playRandomGame(20, 5));
+            try (var writer = GameRecordWriter.append(file)) {
+                writer.write(small);
+            }
+            try (var writer = GameRecordWriter.append(file)) {
+                writer.write(large);
+            }
+            try (var reader = GameRecordReader.open(file)) {
+                assertEquals(small, reader.next());
+                assertEquals(large, reader.next());
+                assertNull(reader.next());
+            }
+            assertEquals(large.result(), large.replay().getGameState());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testRejectsCorruptFiles() throws IOException {
+        Path file = Files.createTempFile("games", ".ttt");
+        try {
+            Files.write(file, "NOPE!".getBytes());
+            assertThrows(StreamCorruptedException.class, () -> GameRecordReader.open(file));
+            assertThrows(StreamCorruptedException.class, () -> GameRecordWriter.append(file));
+
+            Files.delete(file);
+            try (var writer = GameRecordWriter.append(file)) {
+                writer.write(new GameRecord(3, 3, GameState.X_WINS, new int[]{0, 3, 1, 4, 2}));
+            }
+            byte[] bytes = Files.readAllBytes(file);
+            Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+            try (var reader = GameRecordReader.open(file)) {
+                assertThrows(EOFException.class, reader::next);
+            }
+
+            // size 2^31 - 1 with a move count that would pass a check against size * size alone
+            byte[] hostile = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 3, 0,
+                    (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+            byte[] header = Arrays.copyOf(bytes, 5);
+            for (byte[] body : new byte[][]{hostile, {0, 0, 0, 0}, {4, 5, 0, 0}, {(byte) 0x81, 0x02, 3, 0, 0}}) {
+                byte[] record = Arrays.copyOf(header, header.length + body.length);
+                System.arraycopy(body, 0, record, header.length, body.length);
+                Files.write(file, record);
+                try (var reader = GameRecordReader.open(file)) {
+                    assertThrows(StreamCorruptedException.class, reader::next);
+                }
+            }
+
+            var tampered = new GameRecord(3, 3, GameState.O_WINS, new int[]{0, 3, 1, 4, 2});
+            assertThrows(IllegalStateException.class, tampered::replay);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static TicTacToeGame playRandomGame(int size, int winLength) {
+        var game = new RandomAiTicTacToeGame("X", "O", size, winLength);
+        game.start();
+        while (game.getGameState() == GameState.IN_PROGRESS) {
+            Point point = game.makeMove();
+            game.move(point.row(), point.col());
+        }
+        return game;
+    }
+}
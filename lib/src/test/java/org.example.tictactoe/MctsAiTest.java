@@ -0,0 +1,92 @@
+package org.example.tictactoe;
+
+import org.example.tictactoe.enums.GameState;
+import org.example.tictactoe.games.impl.MctsAiTicTacToeGame;
+import org.example.tictactoe.utils.Point;
+import org.example.tictactoe.utils.SearchBudget;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MctsAiTest {
+
+    @Test
+    void testBlocksImmediateThreat() {
+        var game = new MctsAiTicTacToeGame();
+        game.start();
+        game.move(0, 0); // X
+        game.move(1, 1); // O
+        game.move(0, 1); // X
+        assertEquals(new Point(0, 2), game.makeMove());
+    }
+
+    @Test
+    void testBlocksThreatOnLargeBoard() {
+        var game = new MctsAiTicTacToeGame("X", "O", 9, 4);
+        game.start();
+        game.move(4, 4); // X
+        game.move(4, 7); // O
+        game.move(4, 5); // X
+        game.move(0, 0); // O
+        game.move(4, 6); // X
+        assertEquals(new Point(4, 3), game.makeMove());
+    }
+
+    @Test
+    void testReusesTreeBetweenMoves() {
+        var game = new MctsAiTicTacToeGame("X", "O", 7, 4);
+        game.setIterations(2_000);
+        game.start();
+        game.move(3, 3); // X
+        Point point = game.makeMove();
+        assertEquals(2_000, game.getLastRootVisits());
+        game.move(point.row(), point.col()); // O
+        Point reply = point.equals(new Point(2, 2)) ? new Point(4, 4) : new Point(2, 2);
+        game.move(reply.row(), reply.col()); // X
+        game.makeMove();
+        assertTrue(game.getLastRootVisits() > 2_000, "root visits " + game.getLastRootVisits());
+    }
+
+    @Test
+    void testParallelSearchOnLargeBoard() {
+        var game = new MctsAiTicTacToeGame("X", "O", 15, 5);
+        game.setParallelism(4);
+        assertThrows(IllegalArgumentException.class, () -> game.setSearchPool(null));
+        game.start();
+        game.move(7, 7);
+        Point point = game.makeMove(SearchBudget.ofTime(Duration.ofMillis(100)));
+        assertNotNull(point);
+        assertNull(game.getBoard().getPlayer(point.row(), point.col()));
+
+        game.move(point.row(), point.col());
+        point = game.makeMove(SearchBudget.ofNodes(400));
+        assertNotNull(point);
+        assertTrue(game.getLastRootVisits() >= 400, "root visits " + game.getLastRootVisits());
+    }
+
+    @Test
+    void testNoMoveWhenGameIsOver() {
+        var game = new MctsAiTicTacToeGame();
+        game.start();
+        game.move(0, 0); // X
+        game.move(1, 0); // O
+        game.move(0, 1); // X
+        game.move(1, 1); // O
+        assertEquals(GameState.X_WINS, game.move(0, 2));
+        assertNull(game.makeMove());
+    }
+
+    @Test
+    void testInvalidSettings() {
+        var game = new MctsAiTicTacToeGame();
+        assertThrows(IllegalArgumentException.class, () -> game.setIterations(0));
+        assertThrows(IllegalArgumentException.class, () -> game.setParallelism(0));
+        assertThrows(IllegalArgumentException.class, () -> game.setExploration(-1));
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.tictactoe;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.tictactoe.cache.TranspositionTable;
+import org.example.tictactoe.enums.SearchMode;
+import org.example.tictactoe.games.TicTacToeGame;
+import org.example.tictactoe.games.impl.MinMaxAiTicTacToeGame;
+import org.example.tictactoe.metrics.GameMetrics;
+import org.example.tictactoe.metrics.LatencyHistogram;
+import org.example.tictactoe.metrics.Metrics;
+import org.example.tictactoe.metrics.RecordingMetrics;
+import org.example.tictactoe.utils.Point;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsTest {
+
+    @Test
+    void testHistogramPercentiles() {
+        var histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value);
+        }
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(10_000, histogram.getMax());
+        assertEquals(5000.5, histogram.getMean(), 1e-9);
+        long median = histogram.getValueAtPercentile(50);
+        assertTrue(median >= 5000 && median <= 5000 * 1.04, "median " + median);
+        long p99 = histogram.getValueAtPercentile(99);
+        assertTrue(p99 >= 9900 && p99 <= 9900 * 1.04, "p99 " + p99);
+        assertEquals(10_000, histogram.getValueAtPercentile(100));
+
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    void testGamesReportToInstalledMetrics() {
+        var metrics = new RecordingMetrics();
+        Metrics.install(metrics);
+        try {
+            var game = new MinMaxAiTicTacToeGame("X", "O", TranspositionTable.shared(), SearchMode.ALPHA_BETA);
+            game.start();
+            game.move(0, 0);
+            Point move = game.makeMove();
+            game.move(move.row(), move.col());
+
+            assertEquals(2, metrics.getMoves());
+            assertEquals(2, metrics.getMoveLatency().getCount());
+            assertEquals(1, metrics.getAiDecisions());
+            assertEquals(game.getLastSearchNodes(), metrics.getSearchNodes());
+            assertEquals(game.getLastCacheProbes(), metrics.getCacheProbes());
+            assertEquals(game.getLastCacheHits(), metrics.getCacheHits());
+            assertTrue(metrics.getCacheProbes() > 0);
+            assertEquals(1, metrics.getDecisionLatency().getCount());
+        } finally {
+            Metrics.install(GameMetrics.NONE);
+        }
+        var untracked = new TicTacToeGame();
+        untracked.start();
+        untracked.move(1, 1);
+        assertEquals(2, metrics.getMoves());
+        assertSame(GameMetrics.NONE, Metrics.current());
+        assertFalse(GameMetrics.NONE.isEnabled());
+    }
+
+    @Test
+    void testAiSearchEventsAreRecorded() throws IOException {
+        Path file = Files.createTempFile("ai-search", ".jfr");
+        try (var recording = new Recording()) {
+            recording.enable("org.example.tictactoe.AiSearch");
+            recording.start();
+            var game = new MinMaxAiTicTacToeGame("X", "O", 4, 3);
+            game.start();
+            game.makeMove();
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertEquals(1, events.size());
+            RecordedEvent event = events.get(0);
+            assertEquals("minmax", event.getString("engine"));
+            assertEquals(4, event.getInt("boardSize"));
+            assertEquals(game.getLastSearchNodes(), event.getLong("nodes"));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
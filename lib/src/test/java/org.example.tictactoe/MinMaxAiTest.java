@@ -0,0 +1,211 @@
+package org.example.tictactoe;
+
+import org.example.tictactoe.cache.TranspositionTable;
+import org.example.tictactoe.enums.EvictionPolicy;
+import org.example.tictactoe.enums.GameState;
+import org.example.tictactoe.enums.SearchMode;
+import org.example.tictactoe.games.impl.MinMaxAiTicTacToeGame;
+import org.example.tictactoe.utils.Point;
+import org.example.tictactoe.utils.SearchBudget;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MinMaxAiTest {
+
+    @Test
+    void testBlocksImmediateThreat() {
+        var game = new MinMaxAiTicTacToeGame();
+        game.start();
+        game.move(0, 0); // X
+        game.move(1, 1); // O
+        game.move(0, 1); // X
+        assertEquals(new Point(0, 2), game.makeMove());
+    }
+
+    @Test
+    void testTakesWinningMove() {
+        var game = new MinMaxAiTicTacToeGame();
+        game.start();
+        game.move(0, 0); // X
+        game.move(1, 0); // O
+        game.move(2, 2); // X
+        game.move(1, 1); // O
+        game.move(0, 2); // X
+        assertEquals(new Point(1, 2), game.makeMove());
+    }
+
+    @Test
+    void testSameMoveWithDedicatedTable() {
+        var table = new TranspositionTable(1 << 10, EvictionPolicy.ALWAYS_REPLACE);
+        var cached = new MinMaxAiTicTacToeGame("X", "O", table);
+        var fresh = new MinMaxAiTicTacToeGame("X", "O", new TranspositionTable(1, EvictionPolicy.ALWAYS_REPLACE));
+        cached.start();
+        fresh.start();
+        int[][] xMoves = {{0, 0}, {2, 2}, {0, 2}, {2, 0}, {1, 2}};
+        for (int[] xMove : xMoves) {
+            cached.move(xMove[0], xMove[1]);
+            fresh.move(xMove[0], xMove[1]);
+            if (cached.getGameState() != GameState.IN_PROGRESS) {
+                break;
+            }
+            Point point = cached.makeMove();
+            assertEquals(fresh.makeMove(), point);
+            cached.move(point.row(), point.col());
+            fresh.move(point.row(), point.col());
+            if (cached.getGameState() != GameState.IN_PROGRESS) {
+                break;
+            }
+        }
+        assertEquals(fresh.getGameState(), cached.getGameState());
+    }
+
+    @Test
+    void testAlphaBetaVisitsFewerNodes() {
+        var fullWidth = new MinMaxAiTicTacToeGame("X", "O",
+                new TranspositionTable(1, EvictionPolicy.ALWAYS_REPLACE), SearchMode.FULL_WIDTH);
+        var alphaBeta = new MinMaxAiTicTacToeGame("X", "O",
+                new TranspositionTable(1, EvictionPolicy.ALWAYS_REPLACE), SearchMode.ALPHA_BETA);
+        fullWidth.start();
+        alphaBeta.start();
+        fullWidth.move(0, 0);
+        alphaBeta.move(0, 0);
+
+        Point expected = fullWidth.makeMove();
+        Point actual = alphaBeta.makeMove();
+        assertEquals(new Point(1, 1), expected);
+        assertEquals(expected, actual);
+        assertTrue(alphaBeta.getLastSearchNodes() < fullWidth.getLastSearchNodes(),
+                alphaBeta.getLastSearchNodes() + " >= " + fullWidth.getLastSearchNodes());
+    }
+
+    @Test
+    void testParallelSearchMatchesSequential() {
+        var sequential = new MinMaxAiTicTacToeGame("X", "O", 4, 3,
+                new TranspositionTable(1 << 16, EvictionPolicy.DEPTH_PREFERRED), SearchMode.ALPHA_BETA);
+        var parallel = new MinMaxAiTicTacToeGame("X", "O", 4, 3,
+                new TranspositionTable(1 << 16, EvictionPolicy.DEPTH_PREFERRED), SearchMode.ALPHA_BETA);
+        try (var pool = new ForkJoinPool(4)) {
+            parallel.setSearchPool(pool);
+            parallel.setSplitDepth(1);
+            sequential.start();
+            parallel.start();
+            sequential.move(0, 0);
+            parallel.move(0, 0);
+            assertEquals(sequential.makeMove(), parallel.makeMove());
+            assertTrue(parallel.getLastSearchNodes() > 0);
+        }
+    }
+
+    @Test
+    void testTimeBudgetOnLargeBoard() {
+        var game = new MinMaxAiTicTacToeGame("X", "O", 15, 5);
+        game.start();
+        game.move(7, 7);
+        long start = System.nanoTime();
+        Point point = game.makeMove(SearchBudget.ofTime(Duration.ofMillis(50)));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        assertNotNull(point);
+        assertNull(game.getBoard().getPlayer(point.row(), point.col()));
+        assertTrue(elapsedMillis < 2_000, "search took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void testNodeBudgetStillFindsWin() {
+        var game = new MinMaxAiTicTacToeGame("X", "O", 5, 4);
+        game.start();
+        game.move(0, 0); // X
+        game.move(2, 0); // O
+        game.move(0, 1); // X
+        game.move(2, 1); // O
+        game.move(4, 4); // X
+        game.move(2, 2); // O
+        game.move(4, 3); // X
+        Point point = game.makeMove(SearchBudget.ofNodes(1));
+        assertEquals(new Point(2, 3), point);
+    }
+
+    @Test
+    void testHeuristicWeightsAreTunable() {
+        var game = new MinMaxAiTicTacToeGame("X", "O", 7, 4,
+                new TranspositionTable(1 << 12, EvictionPolicy.ALWAYS_REPLACE), SearchMode.ALPHA_BETA);
+        assertThrows(IllegalArgumentException.class, game::setHeuristicWeights);
+        assertThrows(IllegalArgumentException.class, () -> game.setHeuristicWeights(1, -4));
+        game.setHeuristicWeights(1, 10, 1000);
+        game.start();
+        game.move(3, 3); // X
+        game.move(0, 0); // O
+        game.move(3, 4); // X
+        Point point = game.makeMove(SearchBudget.ofNodes(50_000));
+        assertNotNull(point);
+        assertTrue(point.equals(new Point(3, 2)) || point.equals(new Point(3, 5)), "blocks the open two: " + point);
+    }
+
+    @Test
+    void testGamesWithDifferentWeightsShareTableSafely() {
+        var table = new TranspositionTable(1 << 22, EvictionPolicy.DEPTH_PREFERRED);
+        long[] hits = new long[2];
+        for (int run = 0; run < 2; run++) {
+            table.clear();
+            if (run == 1) {
+                var tuned = new MinMaxAiTicTacToeGame("X", "O", 6, 4, table, SearchMode.ALPHA_BETA);
+                tuned.setHeuristicWeights(1, 10, 1000);
+                tuned.start();
+                tuned.move(2, 2); // X
+                tuned.makeMove(SearchBudget.ofNodes(2_000));
+            }
+            var game = new MinMaxAiTicTacToeGame("X", "O", 6, 4, table, SearchMode.ALPHA_BETA);
+            game.start();
+            game.move(2, 2); // X
+            game.makeMove(SearchBudget.ofNodes(2_000));
+            hits[run] = game.getLastCacheHits();
+        }
+        assertEquals(hits[0], hits[1], "default-weight search read scores of the tuned game");
+    }
+
+    @Test
+    void testUnlimitedBudgetMatchesFullSearch() {
+        var game = new MinMaxAiTicTacToeGame("X", "O",
+                new TranspositionTable(1 << 12, EvictionPolicy.DEPTH_PREFERRED), SearchMode.ALPHA_BETA);
+        game.start();
+        game.move(0, 0); // X
+        game.move(1, 1); // O
+        game.move(2, 2); // X
+        Point unlimited = game.makeMove(SearchBudget.UNLIMITED);
+        assertEquals(game.makeMove(), unlimited);
+    }
+
+    @Test
+    void testSearchAllocatesNothingPerNode() {
+        var table = new TranspositionTable(1 << 16, EvictionPolicy.DEPTH_PREFERRED);
+        var alphaBeta = new MinMaxAiTicTacToeGame("X", "O", 4, 3, table, SearchMode.ALPHA_BETA);
+        var fullWidth = new MinMaxAiTicTacToeGame("X", "O", table, SearchMode.FULL_WIDTH);
+        for (MinMaxAiTicTacToeGame game : new MinMaxAiTicTacToeGame[]{alphaBeta, fullWidth}) {
+            game.start();
+            game.move(0, 0); // X
+            game.makeMove(); // warm-up: class loading and compilation allocate
+            table.clear();
+
+            long allocated = allocatedBytes(game::makeMove);
+            long nodes = game.getLastSearchNodes();
+            assertTrue(nodes > 1_000, "visited only " + nodes + " nodes");
+            assertTrue(allocated < nodes, "allocated " + allocated + " bytes for " + nodes + " nodes");
+        }
+    }
+
+    /** Returns the number of bytes allocated by the current thread while running the action. */
+    private static long allocatedBytes(Runnable action) {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        action.run();
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+}
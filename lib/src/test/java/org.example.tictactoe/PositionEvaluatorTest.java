@@ -0,0 +1,111 @@
+package org.example.tictactoe;
+
+import org.example.tictactoe.cache.TranspositionTable;
+import org.example.tictactoe.enums.EvictionPolicy;
+import org.example.tictactoe.games.impl.PositionEvaluator;
+import org.example.tictactoe.solver.SolutionTable;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PositionEvaluatorTest {
+
+    /** Encodes every reachable classic position. */
+    private static long[] classicPositions(SolutionTable solution) {
+        long[] positions = new long[solution.size()];
+        int count = 0;
+        for (long x = 0; x < 1 << 9; x++) {
+            for (long o = 0; o < 1 << 9; o++) {
+                if ((x & o) == 0 && solution.contains(x, o)) {
+                    positions[count++] = PositionEvaluator.encode(x, o);
+                }
+            }
+        }
+        return positions;
+    }
+
+    @Test
+    void testBulkValuesMatchSolutionTable() {
+        var solution = SolutionTable.classic();
+        long[] positions = classicPositions(solution);
+        int[] scores = new int[positions.length];
+        int[] bestMoves = new int[positions.length];
+        var evaluator = new PositionEvaluator(3, 3, Integer.MAX_VALUE,
+                new TranspositionTable(TranspositionTable.DEFAULT_CAPACITY, EvictionPolicy.DEPTH_PREFERRED));
+        evaluator.evaluateAll(positions, scores, bestMoves);
+
+        for (int i = 0; i < positions.length; i++) {
+            long x = positions[i] & 0xFFFFFFFFL;
+            long o = positions[i] >>> 32;
+            assertEquals(solution.value(x, o), Integer.signum(scores[i]));
+            if (solution.bestMoves(x, o) == 0) {
+                assertEquals(PositionEvaluator.NO_MOVE, bestMoves[i]);
+            } else {
+                assertTrue((solution.bestMoves(x, o) & 1 << bestMoves[i]) != 0, "move " + bestMoves[i]);
+            }
+        }
+    }
+
+    @Test
+    void testStreamMatchesBulkEvaluation() {
+        long[] positions = classicPositions(SolutionTable.classic());
+        int[] scores = new int[positions.length];
+        int[] bestMoves = new int[positions.length];
+        var evaluator = new PositionEvaluator(3, 3);
+        evaluator.evaluateAll(positions, scores, bestMoves);
+
+        int[] streamed = LongStream.of(positions).parallel()
+                .mapToObj(position -> evaluator.evaluate(LongStream.of(position)).findFirst().orElseThrow())
+                .mapToInt(PositionEvaluator.Evaluation::score)
+                .toArray();
+        assertArrayEquals(scores, streamed);
+        var empty = evaluator.evaluate(0L);
+        assertEquals(0, empty.score());
+        assertTrue(empty.bestMove() >= 0 && empty.bestMove() < 9);
+    }
+
+    @Test
+    void testResultsDoNotDependOnEvaluationOrder() {
+        long[] positions = classicPositions(SolutionTable.classic());
+        var evaluator = new PositionEvaluator(3, 3, Integer.MAX_VALUE,
+                new TranspositionTable(TranspositionTable.DEFAULT_CAPACITY, EvictionPolicy.DEPTH_PREFERRED));
+        int[] sequentialScores = new int[positions.length];
+        int[] sequentialMoves = new int[positions.length];
+        for (int i = positions.length - 1; i >= 0; i--) {
+            var evaluation = evaluator.evaluate(positions[i]);
+            sequentialScores[i] = evaluation.score();
+            sequentialMoves[i] = evaluation.bestMove();
+        }
+
+        for (int run = 0; run < 2; run++) {
+            int[] scores = new int[positions.length];
+            int[] bestMoves = new int[positions.length];
+            evaluator.evaluateAll(positions, scores, bestMoves);
+            assertArrayEquals(sequentialScores, scores);
+            assertArrayEquals(sequentialMoves, bestMoves);
+        }
+    }
+
+    @Test
+    void testLimitedDepthAndInvalidPositions() {
+        var evaluator = new PositionEvaluator(4, 3, 2, new TranspositionTable(1 << 10, EvictionPolicy.ALWAYS_REPLACE));
+        var evaluation = evaluator.evaluate(PositionEvaluator.encode(0b11, 0b110000));
+        assertEquals(-PositionEvaluator.WIN_SCORE, evaluation.score());
+        assertEquals(2, evaluation.bestMove());
+        assertNotEquals(PositionEvaluator.NO_MOVE, evaluator.evaluate(0L).bestMove());
+
+        assertThrows(IllegalArgumentException.class, () -> evaluator.evaluate(PositionEvaluator.encode(0b11, 0)));
+        assertThrows(IllegalArgumentException.class, () -> evaluator.evaluate(PositionEvaluator.encode(1L << 16, 0)));
+        assertThrows(IllegalArgumentException.class, () -> evaluator.evaluate(PositionEvaluator.encode(0b1, 0b1)));
+        assertThrows(IllegalArgumentException.class, () -> PositionEvaluator.encode(1L << 25, 0));
+        assertThrows(IllegalArgumentException.class, () -> new PositionEvaluator(6, 3));
+        assertThrows(IllegalArgumentException.class, () -> new PositionEvaluator(3, 4));
+        assertThrows(IllegalArgumentException.class, () -> evaluator.evaluateAll(new long[2], new int[1], new int[2]));
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.tictactoe;
+
+import org.example.tictactoe.enums.GameState;
+import org.example.tictactoe.games.impl.RandomAiTicTacToeGame;
+import org.example.tictactoe.utils.Point;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RandomAiTest {
+
+    private static List<Point> playOut(RandomAiTicTacToeGame game) {
+        List<Point> moves = new ArrayList<>();
+        game.start();
+        while (game.getGameState() == GameState.IN_PROGRESS) {
+            Point point = game.makeMove();
+            assertNull(game.getBoard().getPlayer(point.row(), point.col()));
+            game.move(point.row(), point.col());
+            moves.add(point);
+        }
+        return moves;
+    }
+
+    @Test
+    void testSeededGamesAreReproducible() {
+        List<Point> first = playOut(new RandomAiTicTacToeGame("X", "O", 9, 5, 42));
+        List<Point> second = playOut(new RandomAiTicTacToeGame("X", "O", 9, 5, 42));
+        assertEquals(first, second);
+        assertNotEquals(first, playOut(new RandomAiTicTacToeGame("X", "O", 9, 5, 43)));
+    }
+
+    @Test
+    void testFillsTheBoardAndStops() {
+        var game = new RandomAiTicTacToeGame("X", "O", 6, 6);
+        List<Point> moves = playOut(game);
+        assertTrue(moves.size() >= 11 && moves.size() <= 36);
+        assertNull(game.makeMove());
+        assertNull(new RandomAiTicTacToeGame().makeMove());
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.tictactoe;
+
+import org.example.tictactoe.games.impl.MinMaxAiTicTacToeGame;
+import org.example.tictactoe.games.impl.RandomAiTicTacToeGame;
+import org.example.tictactoe.selfplay.SelfPlayResult;
+import org.example.tictactoe.selfplay.SelfPlayRunner;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SelfPlayTest {
+
+    @Test
+    void testPerfectPlayersAlwaysDraw() {
+        var runner = new SelfPlayRunner(MinMaxAiTicTacToeGame::new, MinMaxAiTicTacToeGame::new, 2);
+        SelfPlayResult result = runner.run(10);
+        assertEquals(10, result.games());
+        assertEquals(10, result.draws());
+        assertEquals(90, result.moves());
+    }
+
+    @Test
+    void testMinMaxNeverLosesToRandom() {
+        var runner = new SelfPlayRunner(RandomAiTicTacToeGame::new, MinMaxAiTicTacToeGame::new, 4);
+        SelfPlayResult result = runner.run(200);
+        assertEquals(200, result.xWins() + result.oWins() + result.draws());
+        assertEquals(0, result.xWins());
+        assertTrue(result.gamesPerSecond() > 0);
+        assertTrue(result.medianMoveNanos() <= result.p99MoveNanos());
+        assertTrue(result.p99MoveNanos() <= result.maxMoveNanos());
+    }
+
+    @Test
+    void testInvalidThreadCount() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SelfPlayRunner(RandomAiTicTacToeGame::new, RandomAiTicTacToeGame::new, 0));
+    }
+}
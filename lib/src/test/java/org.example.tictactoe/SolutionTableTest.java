@@ -0,0 +1,50 @@
+package org.example.tictactoe;
+
+import org.example.tictactoe.solver.SolutionTable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SolutionTableTest {
+
+    private static long mask(int... cells) {
+        long mask = 0;
+        for (int cell : cells) {
+            mask |= 1L << cell;
+        }
+        return mask;
+    }
+
+    @Test
+    void testAllLegalPositionsSolved() {
+        assertEquals(5478, SolutionTable.classic().size());
+    }
+
+    @Test
+    void testEmptyBoardIsDraw() {
+        var table = SolutionTable.classic();
+        assertEquals(0, table.value(0, 0));
+        assertEquals(0b111_111_111, table.bestMoves(0, 0));
+        assertEquals(4, table.bestMove(0, 0));
+    }
+
+    @Test
+    void testForcedWinAndBlock() {
+        var table = SolutionTable.classic();
+        // X: 0, 8, 2; O: 3, 4 - O to move and wins at 5
+        assertEquals(1, table.value(mask(0, 8, 2), mask(3, 4)));
+        assertEquals(5, table.bestMove(mask(0, 8, 2), mask(3, 4)));
+        // X: 0, 1; O: 4 - O must block at 2
+        assertEquals(mask(2), table.bestMoves(mask(0, 1), mask(4)));
+    }
+
+    @Test
+    void testUnreachablePosition() {
+        var table = SolutionTable.classic();
+        assertFalse(table.contains(mask(0, 1, 2), 0));
+        assertEquals(SolutionTable.NO_MOVE, table.bestMove(mask(0, 1, 2), 0));
+        assertThrows(IllegalArgumentException.class, () -> table.value(mask(0, 1, 2), 0));
+    }
+}
@@ -0,0 +1,199 @@
+package org.example.tictactoe;
+
+import org.example.tictactoe.enums.GameState;
+import org.example.tictactoe.enums.MoveStatus;
+import org.example.tictactoe.exceptions.FalseStateException;
+import org.example.tictactoe.games.GameEvent;
+import org.example.tictactoe.games.SpectatorFeed;
+import org.example.tictactoe.games.TicTacToeGame;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpectatorFeedTest {
+
+    /** Records every signal; requests nothing until told to. */
+    private static final class Spectator implements Flow.Subscriber<List<GameEvent>> {
+        private final List<List<GameEvent>> batches = new ArrayList<>();
+        private final long initialRequest;
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        private Spectator(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(List<GameEvent> batch) {
+            batches.add(batch);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+
+        private GameEvent last() {
+            return batches.getLast().getLast();
+        }
+    }
+
+    @Test
+    void testSpectatorSeesEveryChange() {
+        var game = new TicTacToeGame();
+        SpectatorFeed feed = game.spectators(Runnable::run, 16);
+        assertSame(feed, game.spectators());
+        assertThrows(FalseStateException.class, () -> game.spectators(Runnable::run, 16));
+        var spectator = new Spectator(Long.MAX_VALUE);
+        feed.subscribe(spectator);
+        assertEquals(GameState.NOT_STARTED, spectator.last().snapshot().getGameState());
+
+        game.start();
+        game.move(0, 0);
+        game.move(1, 1);
+        game.undo();
+        game.redo();
+        assertEquals(6, spectator.batches.size());
+        for (int i = 0; i < spectator.batches.size(); i++) {
+            assertEquals(i, spectator.batches.get(i).getFirst().sequence());
+        }
+        assertSame(game.snapshot(), spectator.last().snapshot());
+        assertEquals(1, feed.getSpectatorCount());
+
+        feed.close();
+        assertTrue(spectator.completed);
+        assertEquals(0, feed.getSpectatorCount());
+        assertNull(spectator.error);
+    }
+
+    @Test
+    void testSlowSpectatorsAreBatchedAndConflated() {
+        var game = new TicTacToeGame("X", "O", 4, 4);
+        SpectatorFeed feed = game.spectators(Runnable::run, 4);
+        game.start();
+        var slow = new Spectator(0);
+        var lagging = new Spectator(0);
+        feed.subscribe(slow);
+        feed.subscribe(lagging);
+
+        game.move(0, 0);
+        game.move(0, 1);
+        lagging.subscription.request(1);
+        List<GameEvent> batch = lagging.batches.getFirst();
+        assertEquals(List.of(1L, 2L, 3L), batch.stream().map(GameEvent::sequence).toList());
+
+        for (int col = 0; col < 4; col++) {
+            game.move(2, col);
+        }
+        slow.subscription.request(1);
+        assertEquals(1, slow.batches.size());
+        assertEquals(1, slow.batches.getFirst().size());
+        assertEquals(7, slow.last().sequence());
+        assertEquals(6, slow.last().snapshot().getMoveCount());
+        assertFalse(slow.completed);
+
+        slow.subscription.request(-1);
+        assertTrue(slow.error instanceof IllegalArgumentException);
+        assertEquals(1, feed.getSpectatorCount());
+    }
+
+    @Test
+    void testRejectedDeliveriesAreRetriedWithoutFailingMoves() {
+        var accepting = new AtomicBoolean(true);
+        Executor executor = task -> {
+            if (!accepting.get()) {
+                throw new RejectedExecutionException("saturated");
+            }
+            task.run();
+        };
+        var game = new TicTacToeGame();
+        SpectatorFeed feed = game.spectators(executor, 16);
+        var spectator = new Spectator(Long.MAX_VALUE);
+        feed.subscribe(spectator);
+        game.start();
+        game.move(0, 0);
+        int delivered = spectator.batches.size();
+
+        accepting.set(false);
+        assertEquals(GameState.IN_PROGRESS, game.move(1, 1));
+        assertEquals(MoveStatus.ACCEPTED, game.tryMove(2, 2));
+        assertEquals(delivered, spectator.batches.size());
+
+        accepting.set(true);
+        game.move(0, 1);
+        assertEquals(4, spectator.last().snapshot().getMoveCount());
+        assertEquals(List.of(3L, 4L, 5L), spectator.batches.getLast().stream().map(GameEvent::sequence).toList());
+        assertFalse(spectator.completed);
+        assertNull(spectator.error);
+        assertEquals(1, feed.getSpectatorCount());
+    }
+
+    @Test
+    void testManySpectatorsOnSharedPool() throws InterruptedException {
+        var game = new TicTacToeGame();
+        SpectatorFeed feed = game.spectators();
+        int watchers = 1000;
+        var finished = new CountDownLatch(watchers);
+        var lastMoveCounts = new AtomicInteger();
+        for (int i = 0; i < watchers; i++) {
+            feed.subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(List<GameEvent> batch) {
+                    if (batch.getLast().snapshot().getGameState() == GameState.X_WINS) {
+                        lastMoveCounts.addAndGet(batch.getLast().snapshot().getMoveCount());
+                        finished.countDown();
+                    }
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+        }
+        game.start();
+        int[][] moves = {{0, 0}, {1, 0}, {0, 1}, {1, 1}, {0, 2}};
+        for (int[] move : moves) {
+            game.move(move[0], move[1]);
+        }
+        assertTrue(finished.await(10, TimeUnit.SECONDS));
+        assertEquals(watchers * moves.length, lastMoveCounts.get());
+    }
+}
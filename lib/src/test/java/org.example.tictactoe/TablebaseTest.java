@@ -0,0 +1,98 @@
+package org.example.tictactoe;
+
+import org.example.tictactoe.enums.GameState;
+import org.example.tictactoe.games.impl.TablebaseAiTicTacToeGame;
+import org.example.tictactoe.solver.SolutionTable;
+import org.example.tictactoe.solver.Tablebase;
+import org.example.tictactoe.solver.TablebaseGenerator;
+import org.example.tictactoe.utils.Point;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TablebaseTest {
+
+    private static Tablebase generate(int size, int winLength, Path file) throws IOException {
+        new TablebaseGenerator(size, winLength).generate(file);
+        return Tablebase.open(file);
+    }
+
+    @Test
+    void testClassicTableMatchesSolutionTable() throws IOException {
+        Path file = Files.createTempFile("classic", ".ttb");
+        try {
+            var tablebase = generate(3, 3, file);
+            var solution = SolutionTable.classic();
+            assertEquals(solution.size(), tablebase.size());
+            for (long x = 0; x < 1 << 9; x++) {
+                for (long o = 0; o < 1 << 9; o++) {
+                    if ((x & o) != 0) {
+                        continue;
+                    }
+                    assertEquals(solution.contains(x, o), tablebase.contains(x, o));
+                    if (solution.contains(x, o)) {
+                        assertEquals(solution.value(x, o), tablebase.value(x, o));
+                    }
+                }
+            }
+            assertEquals(Tablebase.NO_MOVE, tablebase.bestMove(0b111, 0b11000));
+            assertThrows(IllegalArgumentException.class, () -> tablebase.value(0b111, 0));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testFourByFourValues() throws IOException {
+        Path file = Files.createTempFile("four", ".ttb");
+        try {
+            var tablebase = generate(4, 3, file);
+            assertEquals(-1, tablebase.value(0, 0));
+            assertFalse(tablebase.contains(1L << 16, 0));
+
+            tablebase = generate(4, 4, file);
+            assertEquals(0, tablebase.value(0, 0));
+            assertEquals(4, tablebase.getSize());
+            assertEquals(4, tablebase.getWinLength());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testPerfectPlayDraws() throws IOException {
+        Path file = Files.createTempFile("classic", ".ttb");
+        try {
+            var tablebase = generate(3, 3, file);
+            var game = new TablebaseAiTicTacToeGame(tablebase);
+            game.start();
+            while (game.getGameState() == GameState.IN_PROGRESS) {
+                Point move = game.makeMove();
+                assertNotNull(move);
+                game.move(move.row(), move.col());
+            }
+            assertEquals(GameState.DRAW, game.getGameState());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testRejectsInvalidFile() throws IOException {
+        Path file = Files.createTempFile("invalid", ".ttb");
+        try {
+            Files.write(file, "NOT A TABLEBASE!".getBytes());
+            assertThrows(StreamCorruptedException.class, () -> Tablebase.open(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package org.example.tictactoe;
+
+import org.example.tictactoe.boards.TicTacToeBoard;
+import org.example.tictactoe.enums.PlayerType;
+import org.example.tictactoe.enums.Symmetry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TicTacToeBoardTest {
+
+    @Test
+    void testCopyIsIndependent() {
+        var board = new TicTacToeBoard();
+        board.move(1, 1, PlayerType.X);
+        var copy = board.copy();
+        copy.move(0, 0, PlayerType.O);
+        assertNull(board.getPlayer(0, 0));
+        assertEquals(PlayerType.O, copy.getPlayer(0, 0));
+        assertEquals(PlayerType.X, copy.getPlayers()[1][1]);
+    }
+
+    @Test
+    void testClearCell() {
+        var board = new TicTacToeBoard();
+        board.move(2, 1, PlayerType.O);
+        board.move(2, 1, null);
+        assertNull(board.getPlayer(2, 1));
+        board.move(2, 1, PlayerType.X);
+        assertEquals(PlayerType.X, board.getPlayer(2, 1));
+    }
+
+    @Test
+    void testPlaceAndRemoveRestorePosition() {
+        var board = new TicTacToeBoard(4, 3);
+        board.move(0, 0, PlayerType.X);
+        long hash = board.hash();
+        board.place(5, PlayerType.O);
+        assertEquals(PlayerType.O, board.getPlayer(1, 1));
+        assertFalse(board.isEmpty(5));
+        assertEquals(14, board.countEmptyCells());
+        board.remove(5);
+        assertTrue(board.isEmpty(5));
+        assertEquals(hash, board.hash());
+        assertEquals(15, board.countEmptyCells());
+    }
+
+    @Test
+    void testWinOnlyThroughLastMove() {
+        var board = new TicTacToeBoard();
+        board.move(0, 2, PlayerType.O);
+        board.move(1, 1, PlayerType.O);
+        board.move(2, 0, PlayerType.O);
+        assertTrue(board.checkWin(1, 1, PlayerType.O));
+        assertTrue(board.checkDiagonalsWin(PlayerType.O));
+        assertFalse(board.checkWin(1, 0, PlayerType.O));
+        assertFalse(board.checkWin(1, 1, PlayerType.X));
+    }
+
+    @Test
+    void testDrawOnFullBoard() {
+        var board = new TicTacToeBoard();
+        PlayerType player = PlayerType.X;
+        for (int i = 0; i < TicTacToeBoard.SIZE; i++) {
+            for (int j = 0; j < TicTacToeBoard.SIZE; j++) {
+                assertFalse(board.checkDraw());
+                board.move(i, j, player);
+                player = player.getOpponent();
+            }
+        }
+        assertTrue(board.checkDraw());
+    }
+
+    @Test
+    void testWinLengthShorterThanSize() {
+        var board = new TicTacToeBoard(5, 4);
+        for (int i = 1; i < 4; i++) {
+            board.move(i, i - 1, PlayerType.X);
+            assertFalse(board.checkWin(i, i - 1, PlayerType.X));
+        }
+        board.move(4, 3, PlayerType.X);
+        assertTrue(board.checkWin(4, 3, PlayerType.X));
+        assertTrue(board.checkDiagonalsWin(PlayerType.X));
+    }
+
+    @Test
+    void testLargeBoardWinDetection() {
+        var board = new TicTacToeBoard(15, 5);
+        for (int i = 0; i < 4; i++) {
+            board.move(10 - i, 3 + i, PlayerType.O);
+        }
+        board.move(6, 7, PlayerType.X);
+        assertFalse(board.checkWin(7, 6, PlayerType.O));
+        board.move(11, 2, PlayerType.O);
+        assertTrue(board.checkWin(11, 2, PlayerType.O));
+        assertEquals(15 * 15 - 6, board.countEmptyCells());
+    }
+
+    @Test
+    void testLineCountersFollowPlaceAndRemove() {
+        for (int size : new int[]{3, 9}) {
+            var board = new TicTacToeBoard(size, 3);
+            board.place(2, PlayerType.X);
+            board.place(size + 1, PlayerType.X);
+            assertFalse(board.hasWon(PlayerType.X));
+            board.place(2 * size, PlayerType.X);
+            assertTrue(board.hasWon(PlayerType.X));
+            assertTrue(board.checkDiagonalsWin(PlayerType.X));
+            assertFalse(board.hasWon(PlayerType.O));
+
+            var copy = board.copy();
+            board.remove(size + 1);
+            assertFalse(board.hasWon(PlayerType.X));
+            assertFalse(board.checkDiagonalsWin(PlayerType.X));
+            assertFalse(board.checkWin(2, PlayerType.X));
+            assertTrue(copy.hasWon(PlayerType.X));
+
+            board.place(size + 1, PlayerType.O);
+            board.place(size, PlayerType.O);
+            board.place(size + 2, PlayerType.O);
+            assertTrue(board.hasWon(PlayerType.O));
+            assertFalse(board.checkDiagonalsWin(PlayerType.O));
+            assertFalse(board.hasWon(PlayerType.X));
+        }
+    }
+
+    @Test
+    void testOpenLineCountsFollowPlaceAndRemove() {
+        var board = new TicTacToeBoard();
+        board.place(4, PlayerType.X);
+        assertEquals(4, board.countOpenLines(PlayerType.X, 1));
+        board.place(0, PlayerType.O);
+        assertEquals(3, board.countOpenLines(PlayerType.X, 1));
+        assertEquals(2, board.countOpenLines(PlayerType.O, 1));
+        board.place(1, PlayerType.X);
+        assertEquals(2, board.countOpenLines(PlayerType.X, 1));
+        assertEquals(1, board.countOpenLines(PlayerType.X, 2));
+        assertEquals(1, board.countOpenLines(PlayerType.O, 1));
+
+        var copy = board.copy();
+        board.remove(1);
+        assertEquals(3, board.countOpenLines(PlayerType.X, 1));
+        assertEquals(0, board.countOpenLines(PlayerType.X, 2));
+        assertEquals(2, board.countOpenLines(PlayerType.O, 1));
+        assertEquals(1, copy.countOpenLines(PlayerType.X, 2));
+        assertThrows(IllegalArgumentException.class, () -> board.countOpenLines(PlayerType.X, 0));
+        assertThrows(IllegalArgumentException.class, () -> board.countOpenLines(PlayerType.X, 4));
+    }
+
+    @Test
+    void testEmptyCellSetFollowsPlaceAndRemove() {
+        var board = new TicTacToeBoard(4, 3);
+        int[] cells = {5, 0, 15, 9, 3};
+        for (int i = 0; i < cells.length; i++) {
+            board.place(cells[i], i % 2 == 0 ? PlayerType.X : PlayerType.O);
+        }
+        board.remove(0);
+        board.remove(9);
+        var copy = board.copy();
+        board.place(0, PlayerType.O);
+        long found = 0;
+        for (int i = 0; i < copy.countEmptyCells(); i++) {
+            int cell = copy.getEmptyCell(i);
+            assertTrue(copy.isEmpty(cell));
+            found |= 1L << cell;
+        }
+        assertEquals(13, Long.bitCount(found));
+        assertEquals(12, board.countEmptyCells());
+        for (int i = 0; i < board.countEmptyCells(); i++) {
+            assertTrue(board.isEmpty(board.getEmptyCell(i)));
+        }
+        assertThrows(IllegalArgumentException.class, () -> board.getEmptyCell(12));
+    }
+
+    @Test
+    void testInvalidGeometry() {
+        assertThrows(IllegalArgumentException.class, () -> new TicTacToeBoard(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new TicTacToeBoard(3, 4));
+    }
+
+    @Test
+    void testSymmetricPositionsShareCanonicalForm() {
+        var board = new TicTacToeBoard();
+        board.move(0, 0, PlayerType.X);
+        board.move(0, 1, PlayerType.O);
+        var rotated = new TicTacToeBoard();
+        rotated.move(0, 2, PlayerType.X);
+        rotated.move(1, 2, PlayerType.O);
+
+        assertNotEquals(board.hash(), rotated.hash());
+        assertEquals(board.canonicalHash(), rotated.canonicalHash());
+
+        var canonical = board.canonicalize();
+        assertEquals(board.canonicalHash(), canonical.board().hash());
+        assertEquals(canonical.board().hash(), rotated.canonicalize().board().hash());
+        assertEquals(board.hash(), canonical.board().transform(canonical.symmetry().inverse()).hash());
+    }
+
+    @Test
+    void testSymmetryInverse() {
+        for (Symmetry symmetry : Symmetry.values()) {
+            for (int cell = 0; cell < 16; cell++) {
+                assertEquals(cell, symmetry.inverse().transformCell(symmetry.transformCell(cell, 4), 4));
+            }
+        }
+    }
+}
@@ -1,15 +1,26 @@
 package org.example.tictactoe;
 
 import org.example.tictactoe.enums.GameState;
+import org.example.tictactoe.enums.MoveStatus;
 import org.example.tictactoe.enums.PlayerType;
 import org.example.tictactoe.exceptions.CellOccupiedException;
 import org.example.tictactoe.exceptions.CellOutOfBoundsException;
 import org.example.tictactoe.exceptions.FalseStateException;
+import org.example.tictactoe.games.GameSnapshot;
+import org.example.tictactoe.games.PackedTicTacToeGame;
+import org.example.tictactoe.games.PlayerNames;
 import org.example.tictactoe.games.TicTacToeGame;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TicTacToeTest {
 
@@ -107,4 +118,149 @@ class TicTacToeTest {
         game.move(2, 1); // O
         assertEquals(GameState.DRAW, game.getGameState());
     }
+
+    @Test
+    void testLargerBoardWin() {
+        var game = new TicTacToeGame("Player X", "Player O", 4, 3);
+        game.start();
+        game.move(3, 3); // X
+        game.move(0, 0); // O
+        game.move(2, 3); // X
+        game.move(0, 1); // O
+        game.move(1, 3); // X
+        assertEquals(GameState.X_WINS, game.getGameState());
+    }
+
+    @Test
+    void testUndoRedoRestoresStateAndPlayer() {
+        var game = new TicTacToeGame();
+        game.start();
+        assertFalse(game.canUndo());
+        assertThrows(FalseStateException.class, game::undo);
+        game.move(0, 0); // X
+        game.move(1, 0); // O
+        game.move(0, 1); // X
+        game.move(1, 1); // O
+        assertEquals(GameState.X_WINS, game.move(0, 2));
+
+        assertEquals(GameState.IN_PROGRESS, game.undo());
+        assertEquals(PlayerType.X, game.getCurrentPlayerType());
+        assertNull(game.getBoard().getPlayer(0, 2));
+        assertEquals(GameState.IN_PROGRESS, game.undo());
+        assertEquals(PlayerType.O, game.getCurrentPlayerType());
+        assertTrue(game.canRedo());
+
+        assertEquals(GameState.IN_PROGRESS, game.redo());
+        assertEquals(GameState.X_WINS, game.redo());
+        assertFalse(game.canRedo());
+        assertThrows(FalseStateException.class, game::redo);
+
+        game.undo();
+        game.undo();
+        game.move(2, 2); // O takes another branch
+        assertFalse(game.canRedo());
+        assertArrayEquals(new int[]{0, 3, 1, 8}, game.getMoveHistory());
+    }
+
+    @Test
+    void testSnapshotsShareHistory() {
+        var game = new TicTacToeGame();
+        game.start();
+        game.move(1, 1); // X
+        GameSnapshot afterFirst = game.snapshot();
+        game.move(0, 0); // O
+        GameSnapshot afterSecond = game.snapshot();
+        assertSame(afterFirst, afterSecond.getParent());
+        assertSame(afterSecond, game.snapshot());
+
+        game.undo();
+        assertSame(afterFirst, game.snapshot());
+        game.move(2, 2); // O in another branch
+        GameSnapshot branch = game.snapshot();
+        assertSame(afterFirst, branch.getParent());
+        assertEquals(PlayerType.O, afterSecond.getPlayer(0, 0));
+        assertNull(branch.getPlayer(0, 0));
+
+        GameSnapshot beforeWin = afterFirst.play(0, 0).play(0, 2).play(2, 0).play(1, 0).play(0, 1);
+        assertEquals(GameState.IN_PROGRESS, beforeWin.getGameState());
+        GameSnapshot won = beforeWin.play(1, 2);
+        assertEquals(GameState.X_WINS, won.getGameState());
+        assertThrows(CellOccupiedException.class, () -> afterSecond.play(1, 1));
+        assertThrows(FalseStateException.class, () -> won.play(2, 2));
+        assertEquals(2, game.getMoveCount());
+        assertArrayEquals(new int[]{4, 0, 2, 6, 3, 1, 5}, won.getMoveHistory());
+        assertTrue(won.toBoard().hasWon(PlayerType.X));
+    }
+
+    @Test
+    void testPackedGameMatchesBoardGame() {
+        var names = new PlayerNames("Alice", "Bob");
+        var packed = new PackedTicTacToeGame(names, 3, 3);
+        var game = new TicTacToeGame("Alice", "Bob");
+        assertThrows(FalseStateException.class, () -> packed.move(0, 0));
+        packed.start();
+        game.start();
+        assertThrows(FalseStateException.class, packed::start);
+        int[][] moves = {{1, 1}, {0, 0}, {2, 2}, {0, 2}, {0, 1}, {2, 1}, {1, 0}, {1, 2}, {2, 0}};
+        for (int[] move : moves) {
+            assertEquals(game.getCurrentPlayerName(), packed.getCurrentPlayerName());
+            assertEquals(game.move(move[0], move[1]), packed.move(move[0], move[1]));
+            assertEquals(game.getCurrentPlayerType(), packed.getCurrentPlayerType());
+        }
+        assertEquals(GameState.DRAW, packed.getGameState());
+        assertEquals(9, packed.getMoveCount());
+        assertEquals(game.getResult(), packed.getResult());
+        assertEquals(PlayerType.X, packed.getPlayer(1, 1));
+        assertEquals(PlayerType.O, packed.getBoard().getPlayer(0, 0));
+        assertSame(names, packed.getPlayerNames());
+
+        var won = new PackedTicTacToeGame("Alice", "Bob");
+        won.start();
+        won.move(0, 0);
+        won.move(1, 0);
+        won.move(0, 1);
+        assertThrows(CellOccupiedException.class, () -> won.move(0, 1));
+        assertEquals(MoveStatus.OCCUPIED, won.tryMove(0, 1));
+        assertEquals(MoveStatus.OUT_OF_BOUNDS, won.tryMove(-1, 1));
+        assertEquals(MoveStatus.ACCEPTED, won.tryMove(1, 1));
+        assertEquals(GameState.X_WINS, won.move(0, 2));
+        assertEquals(MoveStatus.GAME_OVER, won.tryMove(2, 2));
+        assertEquals("Alice", won.getResult());
+        assertNull(won.getCurrentPlayerName());
+    }
+
+    @Test
+    void testTryMoveRejectsWithoutThrowingOrAllocating() {
+        var game = new TicTacToeGame();
+        assertEquals(MoveStatus.NOT_STARTED, game.tryMove(0, 0));
+        game.start();
+        assertEquals(MoveStatus.ACCEPTED, game.tryMove(1, 1));
+        assertEquals(MoveStatus.OCCUPIED, game.tryMove(1, 1));
+        assertEquals(MoveStatus.OUT_OF_BOUNDS, game.tryMove(3, 0));
+        assertEquals(MoveStatus.OUT_OF_BOUNDS, game.getBoard().tryMove(-1, 0, PlayerType.O));
+        assertEquals(1, game.getMoveCount());
+        assertEquals(PlayerType.O, game.getCurrentPlayerType());
+
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 10_000; i++) {
+            game.tryMove(1, 1);
+            game.tryMove(3 + i, -i);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+        assertTrue(allocated < 10_000, "allocated " + allocated + " bytes");
+
+        var occupied = assertThrows(CellOccupiedException.class, () -> game.move(1, 1));
+        assertEquals("Cell 1 1 Occupied", occupied.getMessage());
+        assertEquals(0, occupied.getStackTrace().length);
+        assertEquals(0, assertThrows(CellOutOfBoundsException.class, () -> game.move(0, 3)).getStackTrace().length);
+        game.move(0, 0);
+        game.move(2, 2);
+        game.move(0, 2);
+        game.move(2, 0);
+        game.move(0, 1);
+        assertEquals(MoveStatus.GAME_OVER, game.tryMove(2, 1));
+        assertEquals(0, assertThrows(FalseStateException.class, () -> game.move(2, 1)).getStackTrace().length);
+        assertThrows(IllegalStateException.class, () -> MoveStatus.ACCEPTED.toException(0, 0));
+    }
 }
@@ -0,0 +1,60 @@
+package org.example.tictactoe;
+
+import org.example.tictactoe.cache.TranspositionTable;
+import org.example.tictactoe.enums.EvictionPolicy;
+import org.example.tictactoe.enums.ScoreBound;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TranspositionTableTest {
+
+    @Test
+    void testStoreAndProbe() {
+        var table = new TranspositionTable(100, EvictionPolicy.ALWAYS_REPLACE);
+        assertEquals(128, table.capacity());
+        assertEquals(TranspositionTable.MISS, table.probe(42L));
+        table.store(42L, 5, -1);
+        assertEquals(-1, table.probe(42L));
+        table.clear();
+        assertEquals(TranspositionTable.MISS, table.probe(42L));
+    }
+
+    @Test
+    void testDepthPreferredEviction() {
+        var table = new TranspositionTable(1, EvictionPolicy.DEPTH_PREFERRED);
+        long deep = 1L << 40;
+        long shallow = 2L << 40;
+        table.store(deep, 7, 1);
+        table.store(shallow, 2, 0);
+        assertEquals(1, table.probe(deep));
+        assertEquals(TranspositionTable.MISS, table.probe(shallow));
+    }
+
+    @Test
+    void testAlwaysReplaceEviction() {
+        var table = new TranspositionTable(1, EvictionPolicy.ALWAYS_REPLACE);
+        long first = 1L << 40;
+        long second = 2L << 40;
+        table.store(first, 7, 1);
+        table.store(second, 2, 0);
+        assertEquals(TranspositionTable.MISS, table.probe(first));
+        assertEquals(0, table.probe(second));
+    }
+
+    @Test
+    void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0, EvictionPolicy.ALWAYS_REPLACE));
+    }
+
+    @Test
+    void testBoundsAndDepthRespected() {
+        var table = new TranspositionTable(16, EvictionPolicy.ALWAYS_REPLACE);
+        table.store(7L, 4, 50, ScoreBound.LOWER);
+        assertEquals(50, table.probe(7L, 4, 0, 40));
+        assertEquals(TranspositionTable.MISS, table.probe(7L, 4, 0, 60));
+        assertEquals(TranspositionTable.MISS, table.probe(7L, 5, 0, 40));
+        assertEquals(TranspositionTable.MISS, table.probe(7L));
+    }
+}
@@ -1,3 +1,10 @@
+pluginManagement {
+    plugins {
+        id("me.champeau.jmh") version "0.7.3"
+    }
+}
+
 rootProject.name = "TicTacToe"
 include("app")
-include("lib")
\ No newline at end of file
+include("lib")
+include("benchmarks")
\ No newline at end of file